@@ -0,0 +1,97 @@
+package com.employee.benchmark;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.employee.EmployeeManagementApplication;
+
+/**
+ * Boots the application without a web server against a private in-memory H2
+ * database and seeds {@link #rows} employees over plain JDBC batches. One
+ * instance is shared by all threads of a trial, so seeding is not measured.
+ *
+ * First names cycle through {@link #DISTINCT_FNAMES} values, so a lookup by
+ * {@link #SAMPLE_FNAME} matches {@code rows / DISTINCT_FNAMES} employees.
+ */
+@State(Scope.Benchmark)
+public class EmployeeDataset {
+
+	static final int DISTINCT_FNAMES = 100;
+	static final String SAMPLE_FNAME = "Name42";
+
+	private static final int INSERT_BATCH_SIZE = 5_000;
+
+	@Param({ "1000", "100000", "1000000" })
+	public int rows;
+
+	private ConfigurableApplicationContext context;
+
+	@Setup(Level.Trial)
+	public void start() {
+		// DevTools would otherwise try to restart the context on a second classloader
+		System.setProperty("spring.devtools.restart.enabled", "false");
+		context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+				.web(WebApplicationType.NONE)
+				// Passed as arguments so they take precedence over application.properties
+				.run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--app.reactive.r2dbc-url=r2dbc:h2:mem:///benchmark",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--spring.jpa.show-sql=false",
+						"--logging.level.root=WARN",
+						"--logging.level.com.employee=WARN");
+		seed(context.getBean(JdbcTemplate.class));
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	public <T> T bean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	private void seed(JdbcTemplate jdbcTemplate) {
+		String sql = "insert into employees (id, empid, fname, dob, doj, salary, reportsto, deptid, rankid, createdat, updatedat, client_reqid, version) "
+				+ "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+		Date dob = Date.valueOf(LocalDate.of(1990, 1, 1));
+		Date doj = Date.valueOf(LocalDate.of(2020, 1, 1));
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+		for (long id = 1; id <= rows; id++) {
+			batch.add(new Object[] { id, "EMP" + id, "Name" + (id % DISTINCT_FNAMES), dob, doj,
+					(int) (30_000 + id % 70_000), id > 1 ? (int) (id / 10 + 1) : null,
+					(int) (id % 20), (int) (id % 8), now, now, "seed-" + id });
+			if (batch.size() == INSERT_BATCH_SIZE) {
+				jdbcTemplate.batchUpdate(sql, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, batch);
+		}
+		// Hibernate's pooled optimizer hands out the allocationSize (50) ids
+		// below each value it reads, so the next value must be a full block
+		// past the seeded ids
+		jdbcTemplate.execute("alter sequence employees_seq restart with " + (rows + 50));
+	}
+
+}
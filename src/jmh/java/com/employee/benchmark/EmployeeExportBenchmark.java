@@ -0,0 +1,55 @@
+package com.employee.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.employee.service.EmployeeExcelExporter;
+import com.employee.service.EmployeeService;
+import com.employee.service.EmployeeSource;
+import com.employee.service.PdfGenerator;
+
+/**
+ * Whole-table Excel and PDF exports written to a discarding stream, reading
+ * through the same database cursor as the export endpoints.
+ *
+ * Each operation touches every row, so results are reported as average
+ * time per export rather than as throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeExportBenchmark {
+
+	private EmployeeSource employees;
+
+	@Setup
+	public void setUp(EmployeeDataset dataset) {
+		employees = dataset.bean(EmployeeService.class)::forEachEmployee;
+	}
+
+	@Benchmark
+	public int excelExport() throws IOException {
+		return new EmployeeExcelExporter(employees).export(OutputStream.nullOutputStream());
+	}
+
+	@Benchmark
+	public int pdfGenerate() throws IOException {
+		return new PdfGenerator().generate(employees, OutputStream.nullOutputStream());
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.employee.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+import com.employee.response.EmployeeColumns;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * JSON serialization of a full employee list with the application's
+ * {@link ObjectMapper}, against the Smile, CBOR and columnar encodings GET /api
+ * also offers, with and without gzip. The list is loaded once per trial, so
+ * only encoding is measured; encoded sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeJsonBenchmark {
+
+	private ObjectMapper objectMapper;
+	private ObjectMapper smileMapper;
+	private ObjectMapper cborMapper;
+	private List<Employee> employees;
+	private EmployeeColumns columns;
+
+	@Setup
+	public void setUp(EmployeeDataset dataset) throws IOException {
+		objectMapper = dataset.bean(ObjectMapper.class);
+		smileMapper = objectMapper.copyWith(new SmileFactory());
+		cborMapper = objectMapper.copyWith(new CBORFactory());
+		employees = dataset.bean(EmployeeRepository.class).findAll();
+		columns = EmployeeColumns.of(employees, null);
+
+		System.out.printf("%nbytes: json=%d json+gzip=%d smile=%d cbor=%d columns=%d columns+gzip=%d%n",
+				size(objectMapper, employees, false), size(objectMapper, employees, true), size(smileMapper, employees, false),
+				size(cborMapper, employees, false), size(objectMapper, columns, false), size(objectMapper, columns, true));
+	}
+
+	@Benchmark
+	public void serializeList() throws IOException {
+		objectMapper.writeValue(OutputStream.nullOutputStream(), employees);
+	}
+
+	@Benchmark
+	public void serializeListGzip() throws IOException {
+		objectMapper.writeValue(new GZIPOutputStream(OutputStream.nullOutputStream()), employees);
+	}
+
+	@Benchmark
+	public void serializeSmile() throws IOException {
+		smileMapper.writeValue(OutputStream.nullOutputStream(), employees);
+	}
+
+	@Benchmark
+	public void serializeCbor() throws IOException {
+		cborMapper.writeValue(OutputStream.nullOutputStream(), employees);
+	}
+
+	@Benchmark
+	public void serializeColumnsGzip() throws IOException {
+		objectMapper.writeValue(new GZIPOutputStream(OutputStream.nullOutputStream()), columns);
+	}
+
+	private static long size(ObjectMapper mapper, Object value, boolean gzip) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		mapper.writeValue(gzip ? new GZIPOutputStream(bytes) : bytes, value);
+		return bytes.size();
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.employee.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.employee.response.EmployeeSearchResult;
+import com.employee.service.EmployeeSearchService;
+
+/**
+ * Latency of a page of {@code GET /api/search} results from the Lucene index,
+ * for an exact name, a prefix and a misspelling. Each matches
+ * {@code rows / DISTINCT_FNAMES} employees or more, so ranking and counting
+ * cover realistic hit counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeSearchBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private EmployeeSearchService employeeSearchService;
+
+	@Setup
+	public void setUp(EmployeeDataset dataset) {
+		employeeSearchService = dataset.bean(EmployeeSearchService.class);
+		// The dataset is seeded over JDBC after startup, which the index does not see
+		employeeSearchService.reload();
+	}
+
+	@Benchmark
+	public EmployeeSearchResult exact() {
+		return employeeSearchService.search(EmployeeDataset.SAMPLE_FNAME, null, 0, PAGE_SIZE);
+	}
+
+	@Benchmark
+	public EmployeeSearchResult prefix() {
+		return employeeSearchService.search("name4", null, 0, PAGE_SIZE);
+	}
+
+	@Benchmark
+	public EmployeeSearchResult fuzzy() {
+		return employeeSearchService.search("nmae42", null, 0, PAGE_SIZE);
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.employee.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import com.employee.entity.Employee;
+import com.employee.service.EmployeeService;
+
+/**
+ * Read paths of {@link EmployeeService} against the seeded H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeServiceBenchmark {
+
+	private EmployeeService employeeService;
+
+	@Setup
+	public void setUp(EmployeeDataset dataset) {
+		employeeService = dataset.bean(EmployeeService.class);
+	}
+
+	@Benchmark
+	public List<Employee> getEmployeesByFname() {
+		return employeeService.getEmployeesByFname(EmployeeDataset.SAMPLE_FNAME);
+	}
+
+	@Benchmark
+	public ResponseEntity<?> getEmployeeIdAndFnameAsResponse() {
+		return employeeService.getEmployeeIdAndFnameAsResponse();
+	}
+
+}
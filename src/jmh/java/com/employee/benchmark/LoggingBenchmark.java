@@ -0,0 +1,130 @@
+package com.employee.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.employee.config.SamplingTurboFilter;
+import com.employee.controller.EmployeeController;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * Throughput of GET /api/{empid} (the controller method, with the employee
+ * cache warm) depending on how its per-request log lines are written:
+ * {@code sync} formats and writes on the request thread as the old
+ * logback.xml did, {@code async} hands events to the bounded queue of
+ * logback-spring.xml, {@code async-sampled} additionally keeps 1 in 100 and
+ * {@code off} is the ceiling with logging disabled. Lines go to a temporary
+ * file so the console does not distort the result.
+ *
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="LoggingBenchmark -p rows=1000"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+	private static final int SAMPLE_RATE = 100;
+
+	@Param({ "sync", "async", "async-sampled", "off" })
+	public String logging;
+
+	private EmployeeController employeeController;
+	private int rows;
+	private File logFile;
+	private Logger controllerLogger;
+	private Appender<ILoggingEvent> appender;
+	private SamplingTurboFilter samplingFilter;
+
+	@Setup
+	public void setUp(EmployeeDataset dataset) throws IOException {
+		employeeController = dataset.bean(EmployeeController.class);
+		rows = dataset.rows;
+
+		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		controllerLogger = context.getLogger(EmployeeController.class);
+		logFile = Files.createTempFile("logging-benchmark", ".log").toFile();
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} %-5level %logger{36} - %msg%n");
+		encoder.start();
+		FileAppender<ILoggingEvent> file = new FileAppender<>();
+		file.setContext(context);
+		file.setFile(logFile.getPath());
+		file.setEncoder(encoder);
+		file.start();
+
+		if (logging.startsWith("async")) {
+			AsyncAppender async = new AsyncAppender();
+			async.setContext(context);
+			async.setQueueSize(8192);
+			async.setNeverBlock(true);
+			async.addAppender(file);
+			async.start();
+			appender = async;
+		} else {
+			appender = file;
+		}
+		if (logging.equals("async-sampled")) {
+			samplingFilter = new SamplingTurboFilter();
+			samplingFilter.setSampleRate(SAMPLE_RATE);
+			samplingFilter.start();
+			context.addTurboFilter(samplingFilter);
+		}
+
+		controllerLogger.setAdditive(false);
+		controllerLogger.addAppender(appender);
+		controllerLogger.setLevel(logging.equals("off") ? Level.OFF : Level.INFO);
+	}
+
+	@TearDown
+	public void tearDown() {
+		controllerLogger.detachAppender(appender);
+		appender.stop();
+		if (samplingFilter != null) {
+			((LoggerContext) LoggerFactory.getILoggerFactory()).getTurboFilterList().remove(samplingFilter);
+		}
+		logFile.delete();
+	}
+
+	@Benchmark
+	public ResponseEntity<?> getEmployeeByEmpId() {
+		return employeeController.getEmployeeByEmpId("EMP" + (ThreadLocalRandom.current().nextInt(rows) + 1),
+				new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+	}
+
+}
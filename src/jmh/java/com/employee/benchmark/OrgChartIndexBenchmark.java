@@ -0,0 +1,78 @@
+package com.employee.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.employee.entity.ReportingLine;
+import com.employee.response.OrgChartNode;
+import com.employee.response.SpanOfControl;
+import com.employee.service.OrgChartIndex;
+
+/**
+ * {@link OrgChartIndex} lookups on a synthetic org where every manager has
+ * ten direct reports. No database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrgChartIndexBenchmark {
+
+	private static final int SPAN = 10;
+
+	@Param({ "100000", "1000000" })
+	public int employees;
+
+	private OrgChartIndex index;
+	private String middleManager;
+	private String leaf;
+
+	@Setup
+	public void setUp() {
+		List<ReportingLine> lines = new ArrayList<>(employees);
+		for (int id = 1; id <= employees; id++) {
+			lines.add(new ReportingLine((long) id, "EMP" + id, id == 1 ? null : (id - 2) / SPAN + 1));
+		}
+		index = new OrgChartIndex();
+		index.replaceAll(lines);
+		// Three levels below the top: a subtree of roughly employees / 1000 people
+		middleManager = "EMP" + (1 + SPAN + SPAN * SPAN);
+		leaf = "EMP" + employees;
+	}
+
+	@Benchmark
+	public List<OrgChartNode> reportsOfMiddleManager() {
+		return index.reports(middleManager, Integer.MAX_VALUE);
+	}
+
+	@Benchmark
+	public List<String> managementChainOfLeaf() {
+		return index.managementChain(leaf);
+	}
+
+	@Benchmark
+	public int depthOfLeaf() {
+		return index.depth(leaf);
+	}
+
+	@Benchmark
+	public SpanOfControl spanOfControlOfMiddleManager() {
+		return index.spanOfControl(middleManager);
+	}
+
+}
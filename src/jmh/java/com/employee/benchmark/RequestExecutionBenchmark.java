@@ -0,0 +1,140 @@
+package com.employee.benchmark;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.employee.config.ConnectionLimitFilter;
+import com.employee.repository.EmployeeRepository;
+
+import jakarta.servlet.ServletException;
+
+/**
+ * Time to serve a burst of concurrent requests as each mode is deployed:
+ * Tomcat's default pool of 200 platform threads, or one virtual thread per
+ * request behind {@link ConnectionLimitFilter} with the configured
+ * app.db.max-concurrent-requests and acquire timeout. Each simulated request
+ * reads a keyset page through the connection pool and then blocks for
+ * {@link #latencyMillis}, standing in for the network round trips a request
+ * spends waiting on PostgreSQL and the client; in-memory H2 has none. A burst
+ * in which the filter answers any request with 503 fails rather than report
+ * the time of the rejections.
+ *
+ * {@code threads=virtual} needs Java 21:
+ * {@code mvn -Pbenchmarks,java21 test-compile exec:exec -Djmh.args="RequestExecutionBenchmark -p rows=100000"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RequestExecutionBenchmark {
+
+	private static final int PLATFORM_THREADS = 200;
+	private static final int PAGE_SIZE = 20;
+
+	@Param({ "platform", "virtual" })
+	public String threads;
+
+	@Param({ "2000" })
+	public int burst;
+
+	@Param({ "5" })
+	public int latencyMillis;
+
+	private EmployeeRepository employeeRepository;
+	private ExecutorService platformPool;
+	private VirtualThreadTaskExecutor virtualExecutor;
+	private ConnectionLimitFilter connectionLimit;
+	private int rows;
+
+	@Setup
+	public void setUp(EmployeeDataset dataset) {
+		employeeRepository = dataset.bean(EmployeeRepository.class);
+		rows = dataset.rows;
+		if ("virtual".equals(threads)) {
+			Environment environment = dataset.bean(Environment.class);
+			virtualExecutor = new VirtualThreadTaskExecutor("request-");
+			connectionLimit = new ConnectionLimitFilter(environment.getRequiredProperty("app.db.max-concurrent-requests", Integer.class),
+					environment.getProperty("app.db.acquire-timeout", Duration.class, Duration.ofSeconds(5)));
+		} else {
+			platformPool = Executors.newFixedThreadPool(PLATFORM_THREADS);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (platformPool != null) {
+			platformPool.shutdownNow();
+		}
+	}
+
+	@Benchmark
+	public void serveBurst() throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(burst);
+		AtomicInteger rejected = new AtomicInteger();
+		for (int i = 0; i < burst; i++) {
+			long after = (long) i * PAGE_SIZE % rows;
+			Runnable request = () -> {
+				try {
+					if (connectionLimit != null) {
+						MockHttpServletResponse response = new MockHttpServletResponse();
+						connectionLimit.doFilter(new MockHttpServletRequest("GET", "/api"), response, (req, res) -> handle(after));
+						if (response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+							rejected.incrementAndGet();
+						}
+					} else {
+						handle(after);
+					}
+				} catch (IOException | ServletException e) {
+					throw new IllegalStateException(e);
+				} finally {
+					done.countDown();
+				}
+			};
+			if (virtualExecutor != null) {
+				virtualExecutor.execute(request);
+			} else {
+				platformPool.execute(request);
+			}
+		}
+		done.await();
+		if (rejected.get() > 0) {
+			throw new IllegalStateException(rejected + " of " + burst + " requests were rejected with 503; lower burst or latencyMillis");
+		}
+	}
+
+	private void handle(long after) {
+		try {
+			employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(PAGE_SIZE));
+			Thread.sleep(latencyMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
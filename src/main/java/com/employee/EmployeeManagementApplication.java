@@ -1,16 +1,18 @@
 package com.employee;
 // just a comment 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
 
-@SpringBootApplication
+// R2DBC is set up by ReactiveDatabaseConfig; an auto-configured ConnectionFactory would switch off the JDBC DataSource
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class EmployeeManagementApplication extends SpringBootServletInitializer {
     
-    private static final Logger logger = LogManager.getLogger(EmployeeManagementApplication.class);
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeManagementApplication.class);
 
     public static void main(String[] args) {
         SpringApplication.run(EmployeeManagementApplication.class, args);
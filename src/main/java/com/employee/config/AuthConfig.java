@@ -0,0 +1,31 @@
+package com.employee.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.employee.controller.BasicAuthValidator;
+
+/**
+ * Registers {@link BasicAuthFilter} for the whole API, so controllers no
+ * longer check credentials themselves.
+ */
+@Configuration
+public class AuthConfig {
+
+	@Bean
+	public FilterRegistrationBean<BasicAuthFilter> basicAuthFilter(BasicAuthValidator basicAuthValidator,
+			@Value("${app.auth.protected-paths:/api/exports/**}") List<String> protectedPaths) {
+		FilterRegistrationBean<BasicAuthFilter> registration = new FilterRegistrationBean<>(
+				new BasicAuthFilter(basicAuthValidator, protectedPaths));
+		registration.addUrlPatterns("/api/*");
+		// Right after the virtual thread limiter, before any request body is read
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+		return registration;
+	}
+
+}
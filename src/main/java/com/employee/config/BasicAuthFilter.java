@@ -0,0 +1,75 @@
+package com.employee.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.employee.controller.BasicAuthValidator;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests before they reach a controller. Every write
+ * (anything but GET, HEAD and OPTIONS) needs valid Basic credentials, as do
+ * reads under the configured protected paths. The user name is handed on as
+ * the {@link #AUTHENTICATED_USER} request attribute.
+ */
+public class BasicAuthFilter extends OncePerRequestFilter {
+
+	public static final String AUTHENTICATED_USER = "com.employee.config.BasicAuthFilter.user";
+
+	private static final Logger log = LoggerFactory.getLogger(BasicAuthFilter.class);
+
+	private final BasicAuthValidator basicAuthValidator;
+	private final List<String> protectedPaths;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	public BasicAuthFilter(BasicAuthValidator basicAuthValidator, List<String> protectedPaths) {
+		this.basicAuthValidator = basicAuthValidator;
+		this.protectedPaths = protectedPaths;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (!requiresAuthentication(request)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		String user = basicAuthValidator.authenticate(request.getHeader(HttpHeaders.AUTHORIZATION));
+		if (user == null) {
+			log.warn("Unauthorized access attempt");
+			response.setStatus(HttpStatus.UNAUTHORIZED.value());
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getWriter().write("{\"status\":\"error\",\"message\":\"Invalid credentials\"}");
+			return;
+		}
+		request.setAttribute(AUTHENTICATED_USER, user);
+		filterChain.doFilter(request, response);
+	}
+
+	private boolean requiresAuthentication(HttpServletRequest request) {
+		String method = request.getMethod();
+		if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+			return true;
+		}
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		for (String pattern : protectedPaths) {
+			if (pathMatcher.match(pattern, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.employee.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction. Cache names and the Caffeine spec
+ * (size bound, TTL, stats) are configured in application.properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String EMPLOYEES_BY_EMPID = "employeesByEmpid";
+
+	public static final String EMPLOYEE_ANALYTICS = "employeeAnalytics";
+
+}
@@ -0,0 +1,68 @@
+package com.employee.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Caps how many requests run at once. On virtual threads Tomcat no longer
+ * bounds concurrency with its worker pool, so without this every request
+ * would queue inside the connection pool and time out there instead. Waiting
+ * requests are served in arrival order; ones that cannot get a permit within
+ * the timeout are answered with 503 and a Retry-After hint.
+ */
+public class ConnectionLimitFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(ConnectionLimitFilter.class);
+
+	private final Semaphore permits;
+	private final Duration acquireTimeout;
+
+	public ConnectionLimitFilter(int maxConcurrentRequests, Duration acquireTimeout) {
+		this.permits = new Semaphore(maxConcurrentRequests, true);
+		this.acquireTimeout = acquireTimeout;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		if (!acquired) {
+			log.warn("Rejected {} {}: no database capacity within {}", request.getMethod(), request.getRequestURI(), acquireTimeout);
+			response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, acquireTimeout.toSeconds())));
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getWriter().write("{\"status\":\"error\",\"message\":\"Server is busy, please retry later\"}");
+			return;
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			permits.release();
+		}
+	}
+
+	int availablePermits() {
+		return permits.availablePermits();
+	}
+
+}
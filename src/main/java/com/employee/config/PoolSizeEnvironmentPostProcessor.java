@@ -0,0 +1,27 @@
+package com.employee.config;
+
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Publishes {@code app.db.cpu-pool-size}, the connection pool size HikariCP
+ * recommends for this machine: {@code cores * 2 + 1}, the one standing in for
+ * a single disk. Properties cannot do arithmetic, so the production profile
+ * refers to this value as the default for {@code DB_POOL_SIZE}. Registered in
+ * META-INF/spring.factories and added last, so any explicit setting wins.
+ */
+public class PoolSizeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	static final String CPU_POOL_SIZE = "app.db.cpu-pool-size";
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		int size = Runtime.getRuntime().availableProcessors() * 2 + 1;
+		environment.getPropertySources().addLast(new MapPropertySource("dbPoolSizing", Map.of(CPU_POOL_SIZE, size)));
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.employee.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * R2DBC access for the read-only endpoints under {@code /api/reactive}. The
+ * pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring
+ * Boot backs off from configuring the JDBC DataSource (and with it JPA) as soon
+ * as one exists, which is also why R2dbcAutoConfiguration is excluded in
+ * {@code EmployeeManagementApplication}.
+ */
+@Configuration
+public class ReactiveDatabaseConfig implements DisposableBean {
+
+	private ConnectionPool pool;
+
+	@Bean
+	public DatabaseClient reactiveDatabaseClient(
+			@Value("${app.reactive.r2dbc-url}") String url,
+			@Value("${spring.datasource.username:}") String username,
+			@Value("${spring.datasource.password:}") String password,
+			@Value("${app.reactive.pool-size:10}") int poolSize) {
+		ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+				.option(ConnectionFactoryOptions.USER, username)
+				.option(ConnectionFactoryOptions.PASSWORD, password)
+				.build();
+		pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+				.initialSize(0)
+				.maxSize(poolSize)
+				.maxIdleTime(Duration.ofMinutes(30))
+				.build());
+		return DatabaseClient.create(pool);
+	}
+
+	@Override
+	public void destroy() {
+		if (pool != null) {
+			pool.dispose();
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.employee.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Lets through one in {@code sampleRate} log events carrying the
+ * {@link #SAMPLED} marker, for lines written on every request of a hot read
+ * path. Dropped events are rejected before a logging event is created or the
+ * message formatted. Warnings and errors are never sampled, and a rate of 1
+ * (the default) keeps everything. Configured in logback-spring.xml.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+	private final AtomicLong counter = new AtomicLong();
+	private int sampleRate = 1;
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+		// format is null for isXxxEnabled() checks, which should not use up a sample
+		if (sampleRate <= 1 || format == null || marker == null || !marker.contains(SAMPLED)
+				|| level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+			return FilterReply.NEUTRAL;
+		}
+		return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+	}
+
+	public void setSampleRate(int sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+}
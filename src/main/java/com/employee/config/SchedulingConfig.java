@@ -0,0 +1,13 @@
+package com.employee.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} housekeeping tasks such as export file cleanup.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
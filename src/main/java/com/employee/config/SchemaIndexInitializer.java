@@ -0,0 +1,67 @@
+package com.employee.config;
+
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the platform specific DDL in {@code db/indexes-<platform>.sql} once
+ * Hibernate has created or updated the tables, before the web server starts
+ * taking requests. Hibernate cannot express functional indexes or sequence
+ * catch-up, so they live in these scripts instead.
+ */
+@Component
+public class SchemaIndexInitializer implements SmartInitializingSingleton {
+
+	private static final Logger log = LoggerFactory.getLogger(SchemaIndexInitializer.class);
+
+	private final DataSource dataSource;
+	private final ResourceLoader resourceLoader;
+
+	public SchemaIndexInitializer(DataSource dataSource, ResourceLoader resourceLoader) {
+		this.dataSource = dataSource;
+		this.resourceLoader = resourceLoader;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		applyIndexScript();
+	}
+
+	public void applyIndexScript() {
+		String platform = detectPlatform();
+		Resource script = resourceLoader.getResource("classpath:db/indexes-" + platform + ".sql");
+		if (!script.exists()) {
+			log.info("No index script for database platform '{}'", platform);
+			return;
+		}
+		try {
+			new ResourceDatabasePopulator(script).execute(dataSource);
+			log.info("Applied index script {}", script.getFilename());
+		} catch (DataAccessException e) {
+			log.warn("Failed to apply index script {}", script.getFilename(), e);
+		}
+	}
+
+	private String detectPlatform() {
+		try {
+			String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+			return DatabaseDriver.fromProductName(productName).getId();
+		} catch (MetaDataAccessException e) {
+			log.warn("Could not determine database platform", e);
+			return DatabaseDriver.UNKNOWN.getId();
+		}
+	}
+}
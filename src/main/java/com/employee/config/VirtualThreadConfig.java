@@ -0,0 +1,35 @@
+package com.employee.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Active only with {@code spring.threads.virtual.enabled=true} on Java 21 or
+ * later (build with {@code -Pjava21}). Spring Boot then serves requests,
+ * {@code @Scheduled} tasks and export jobs on virtual threads; this adds the
+ * limiter that keeps them from all contending for the JDBC pool at once.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+	@Bean
+	public FilterRegistrationBean<ConnectionLimitFilter> connectionLimitFilter(
+			@Value("${app.db.max-concurrent-requests}") int maxConcurrentRequests,
+			@Value("${app.db.acquire-timeout:PT5S}") Duration acquireTimeout) {
+		FilterRegistrationBean<ConnectionLimitFilter> registration = new FilterRegistrationBean<>(
+				new ConnectionLimitFilter(maxConcurrentRequests, acquireTimeout));
+		registration.addUrlPatterns("/api/*");
+		// Ahead of everything else, so rejected requests cost nothing
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+
+}
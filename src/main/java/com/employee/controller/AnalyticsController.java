@@ -0,0 +1,35 @@
+package com.employee.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.response.HttpResponse;
+import com.employee.service.EmployeeAnalyticsService;
+import com.employee.service.EmployeeAnalyticsService.Grouping;
+
+/**
+ * Headcount, salary and tenure statistics per department and per rank, so
+ * dashboards do not need to download the whole employee list.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+	@Autowired
+	private EmployeeAnalyticsService analyticsService;
+
+	@GetMapping("/departments")
+	public ResponseEntity<?> getDepartmentStatistics() {
+		return HttpResponse.generateResponse("success", HttpStatus.OK, analyticsService.summarize(Grouping.DEPARTMENT));
+	}
+
+	@GetMapping("/ranks")
+	public ResponseEntity<?> getRankStatistics() {
+		return HttpResponse.generateResponse("success", HttpStatus.OK, analyticsService.summarize(Grouping.RANK));
+	}
+
+}
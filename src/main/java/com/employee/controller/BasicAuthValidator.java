@@ -0,0 +1,121 @@
+package com.employee.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Checks HTTP Basic credentials against the configured users: the
+ * app.auth.username / app.auth.password pair plus any {@code user:password}
+ * entries in app.auth.users. Passwords are either plain text or hashes with a
+ * Spring Security id prefix such as {@code {bcrypt}} or {@code {pbkdf2}}.
+ *
+ * Header values that verified successfully are remembered in a small bounded
+ * cache, so a client repeating the same header costs one lookup instead of a
+ * decode and, for hashed passwords, a deliberately slow hash. Failures are
+ * never cached.
+ */
+@Component
+public class BasicAuthValidator {
+
+	private static final String BASIC_PREFIX = "Basic ";
+	private static final String NOOP_PREFIX = "{noop}";
+
+	private final Map<String, String> passwordsByUser = new HashMap<>();
+	private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+	private final Cache<String, String> verifiedHeaders;
+
+	@Autowired
+	public BasicAuthValidator(
+			@Value("${app.auth.username:}") String userName,
+			@Value("${app.auth.password:}") String passWord,
+			@Value("${app.auth.users:}") String[] users,
+			@Value("${app.auth.cache-size:1000}") long cacheSize,
+			@Value("${app.auth.cache-ttl:PT10M}") Duration cacheTtl) {
+		if (!userName.isEmpty()) {
+			passwordsByUser.put(userName, passWord);
+		}
+		for (String user : users) {
+			int colon = user.indexOf(':');
+			if (colon <= 0) {
+				throw new IllegalArgumentException("app.auth.users entries must look like user:password");
+			}
+			passwordsByUser.put(user.substring(0, colon).trim(), user.substring(colon + 1).trim());
+		}
+		this.verifiedHeaders = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(cacheTtl).build();
+	}
+
+	/**
+	 * Returns the authenticated user name, or null when the header is missing or wrong.
+	 */
+	public String authenticate(String authHeader) {
+		if (authHeader == null || !authHeader.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+			return null;
+		}
+		String user = verifiedHeaders.getIfPresent(authHeader);
+		if (user == null) {
+			user = verify(authHeader);
+			if (user != null) {
+				verifiedHeaders.put(authHeader, user);
+			}
+		}
+		return user;
+	}
+
+	private String verify(String authHeader) {
+		byte[] decoded;
+		try {
+			decoded = Base64.getDecoder().decode(authHeader.substring(BASIC_PREFIX.length()).trim());
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		try {
+			// RFC 7617: the user id ends at the first colon, the password may contain more
+			int colon = indexOf(decoded, (byte) ':');
+			if (colon < 0) {
+				return null;
+			}
+			String user = new String(decoded, 0, colon, StandardCharsets.UTF_8);
+			String stored = passwordsByUser.get(user);
+			byte[] password = Arrays.copyOfRange(decoded, colon + 1, decoded.length);
+			try {
+				return stored != null && matches(password, stored) ? user : null;
+			} finally {
+				Arrays.fill(password, (byte) 0);
+			}
+		} finally {
+			Arrays.fill(decoded, (byte) 0);
+		}
+	}
+
+	private boolean matches(byte[] password, String stored) {
+		if (!stored.startsWith("{") || stored.startsWith(NOOP_PREFIX)) {
+			String plain = stored.startsWith(NOOP_PREFIX) ? stored.substring(NOOP_PREFIX.length()) : stored;
+			// Constant time for equal lengths, unlike String.equals
+			return MessageDigest.isEqual(password, plain.getBytes(StandardCharsets.UTF_8));
+		}
+		return passwordEncoder.matches(new String(password, StandardCharsets.UTF_8), stored);
+	}
+
+	private static int indexOf(byte[] bytes, byte value) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,44 @@
+package com.employee.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.employee.response.StandardResponse;
+import com.employee.service.EmployeeChangeStream;
+
+/**
+ * Live feed of committed employee creates, updates and deletes as
+ * Server-Sent Events, so downstream systems stop polling GET /api. Resume with
+ * {@code ?after=<offset>} or the Last-Event-ID header an EventSource sends on
+ * reconnect.
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class EmployeeChangeController {
+
+	@Autowired
+	private EmployeeChangeStream changeStream;
+
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamChanges(
+			@RequestParam(value = "after", required = false) Long after,
+			@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+		return changeStream.subscribe(after != null ? after : lastEventId);
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<StandardResponse> handleOffsetGone(IllegalArgumentException ex) {
+		return ResponseEntity.status(HttpStatus.GONE).contentType(MediaType.APPLICATION_JSON)
+				.body(new StandardResponse("error", ex.getMessage()));
+	}
+
+}
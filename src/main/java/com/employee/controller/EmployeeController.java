@@ -1,19 +1,27 @@
 package com.employee.controller;
 
+import static com.employee.config.SamplingTurboFilter.SAMPLED;
+
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -21,18 +29,36 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeCounter;
+import com.employee.entity.EmployeeArchiveCriteria;
+import com.employee.entity.EmployeeFilter;
 import com.employee.exception.EmployeeNotFoundException;
+import com.employee.exception.IdempotencyConflictException;
+import com.employee.response.BulkIngestResponse;
+import com.employee.response.EmployeeColumns;
+import com.employee.response.EmployeePage;
+import com.employee.response.HttpResponse;
 import com.employee.response.OutputResponse;
 import com.employee.response.StandardResponse;
+import com.employee.service.EmployeeBulkIngestService;
+import com.employee.service.EmployeeChangeTracker;
 import com.employee.service.EmployeeExcelExporter;
+import com.employee.service.EmployeeSearchService;
 import com.employee.service.EmployeeService;
 import com.employee.service.PdfGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.lowagie.text.DocumentException;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -45,60 +71,75 @@ public class EmployeeController {
 	@Autowired
 	private EmployeeService employeeService;
 
+	@Autowired
+	private EmployeeBulkIngestService bulkIngestService;
+
+	@Autowired
+	private EmployeeSearchService employeeSearchService;
+
+	@Autowired
+	private EmployeeChangeTracker changeTracker;
+
 	private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
 
-	@Value("${app.auth.username}")
-	private String userName;
-	
-	@Value("${app.auth.password}")
-	private String passWord;
+	@Value("${app.listing.default-page-size:100}")
+	private int defaultPageSize;
+
+	@Value("${app.listing.max-page-size:1000}")
+	private int maxPageSize;
+
+	@Autowired
+	private ObjectMapper objectMapper;
 	
-	// Helper method to validate Basic Authentication
-	private boolean validateBasicAuth(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Basic ")) {
-            return false;
-        }
-        try {
-            String encodedAuth = authHeader.substring(6);
-            String decodedAuth = new String(Base64.getDecoder().decode(encodedAuth));
-            String[] credentials = decodedAuth.split(":");
-            if (credentials.length != 2) return false;
-            return userName.equals(credentials[0]) && passWord.equals(credentials[1]);
-        } catch (Exception e) {
-            return false;
-        }
-    }
 
     @PostMapping("")
-    public ResponseEntity<StandardResponse> addEmployee(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
-            @Valid @RequestBody Employee employee) {
+    public ResponseEntity<StandardResponse> addEmployee(@Valid @RequestBody Employee employee) {
         StandardResponse response;
         HttpStatus status;
 
-        if (!validateBasicAuth(authHeader)) {
-            log.warn("Unauthorized access attempt");
-            response = new StandardResponse("error", "Invalid credentials");
-            status = HttpStatus.UNAUTHORIZED;
-        } else {
-            try {
-                response = employeeService.addEmployee(employee);
-                status = response.getStatus().equals("success") ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
-            } catch (DataAccessException e) {
-                log.error("Failed to perform database operation", e);
-                response = new StandardResponse("error", "Failed to perform database operation. Please try again later.");
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            } catch (Exception e) {
-                log.error("Unexpected error occurred", e);
-                response = new StandardResponse("error", "An unexpected error occurred. Please try again later.");
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            }
+        try {
+            response = employeeService.addEmployee(employee);
+            status = response.getStatus().equals("success") ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        } catch (IdempotencyConflictException e) {
+            log.warn("Rejected reused client_reqid: {}", e.getMessage());
+            response = new StandardResponse("error", e.getMessage());
+            status = HttpStatus.CONFLICT;
+        } catch (DataAccessException e) {
+            log.error("Failed to perform database operation", e);
+            response = new StandardResponse("error", "Failed to perform database operation. Please try again later.");
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        } catch (Exception e) {
+            log.error("Unexpected error occurred", e);
+            response = new StandardResponse("error", "An unexpected error occurred. Please try again later.");
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
         return new ResponseEntity<>(response, status);
     }
 
+    // Accepts a JSON array or NDJSON; rows are parsed lazily so the body is never held in memory
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<?> bulkAddEmployees(HttpServletRequest request) {
+        try (MappingIterator<Employee> rows = objectMapper.readerFor(Employee.class).readValues(request.getInputStream())) {
+            BulkIngestResponse response = bulkIngestService.ingest(rows);
+            HttpStatus status = response.getFailed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+            return new ResponseEntity<>(response, status);
+        } catch (IOException e) {
+            log.error("Failed to read bulk ingest body", e);
+            return new ResponseEntity<>(new StandardResponse("error", "Could not read request body: " + e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping("")
-    public ResponseEntity<?> getEmployeeIdAndName() {
+    public ResponseEntity<?> getEmployeeIdAndName(
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "after", required = false) String after,
+            ServletWebRequest request) {
+        if (listingNotModified(request)) {
+            return null;
+        }
+        if (size != null || after != null) {
+            return getEmployeePage(size, after);
+        }
         try {
             List<Employee> empList = employeeService.getEmployeeIdAndFname();
             if (empList == null || empList.isEmpty()) {
@@ -111,20 +152,96 @@ public class EmployeeController {
         }
     }
 
+    @GetMapping("/id-names")
+    public ResponseEntity<?> getEmployeeIdNames(ServletWebRequest request) {
+        if (listingNotModified(request)) {
+            return null;
+        }
+        return employeeService.getEmployeeIdAndFnameAsResponse();
+    }
+
+    private ResponseEntity<?> getEmployeePage(Integer size, String after) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            return new ResponseEntity<>(new StandardResponse("error", "size must be between 1 and " + maxPageSize), HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(employeeService.getEmployeePage(after, pageSize), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected continuation token: {}", after);
+            return new ResponseEntity<>(new StandardResponse("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Error fetching employee page", e);
+            return new ResponseEntity<>(new StandardResponse("error", "An error occurred: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamEmployees(HttpServletResponse response, ServletWebRequest request) throws IOException {
+        if (listingNotModified(request)) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        // One JSON document per line, written as rows come off the cursor
+        try (SequenceWriter writer = objectMapper.writerFor(Employee.class).withRootValueSeparator("\n").writeValues(out)) {
+            employeeService.forEachEmployee(employee -> {
+                try {
+                    writer.write(employee);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to stream employee " + employee.getEmpid(), e);
+                }
+            });
+        } catch (IllegalStateException e) {
+            log.error("Error streaming employees", e);
+        }
+    }
+
+    /**
+     * Same rows as GET /api, one array per field instead of one object per
+     * row, for bulk consumers: {@code Accept: application/vnd.employee.columns}.
+     * The body is JSON, but the type has no +json suffix so that generic
+     * {@code application/*+json} clients keep getting the row layout.
+     * Always paged like GET /api?size=&after=, so a response holds at most
+     * app.listing.max-page-size rows; nextToken is the following page's after.
+     */
+    @GetMapping(value = "", produces = EmployeeColumns.MEDIA_TYPE)
+    public void getEmployeeColumns(
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "after", required = false) String after,
+            HttpServletResponse response, ServletWebRequest request) throws IOException {
+        if (listingNotModified(request)) {
+            return;
+        }
+        ResponseEntity<?> page = getEmployeePage(size, after);
+        if (!(page.getBody() instanceof EmployeePage rows)) {
+            // Same JSON error body as GET /api?size=&after=
+            response.setStatus(page.getStatusCode().value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), page.getBody());
+            return;
+        }
+        response.setContentType(EmployeeColumns.MEDIA_TYPE);
+        objectMapper.writeValue(response.getOutputStream(), EmployeeColumns.of(rows.getItems(), rows.getNextToken()));
+    }
+
     @GetMapping("/{empid}")
-    public ResponseEntity<?> getEmployeeByEmpId(@PathVariable String empid) {
-        log.info("Received request to get employee with empid: {}", empid);
+    public ResponseEntity<?> getEmployeeByEmpId(@PathVariable String empid, ServletWebRequest request) {
+        log.debug("Received request to get employee with empid: {}", empid);
         Object response;
         HttpStatus status;
 
         try {
             Employee employee = employeeService.getEmployeeByEmpId(empid);
             if (employee != null) {
-                log.info("Employee found with empid: {}", empid);
-                response = employee;
-                status = HttpStatus.OK;
+                log.info(SAMPLED, "Employee found with empid: {}", empid);
+                HttpHeaders headers = eTagHeaders(employee);
+                if (headers.getETag() != null && request.checkNotModified(headers.getETag())) {
+                    return null;
+                }
+                return new ResponseEntity<>(employee, headers, HttpStatus.OK);
             } else {
-                log.info("Employee with empid {} does not exist", empid);
+                log.info(SAMPLED, "Employee with empid {} does not exist", empid);
                 response = new StandardResponse("error", "Employee with empid " + empid + " does not exist in the database");
                 status = HttpStatus.NOT_FOUND;
             }
@@ -137,16 +254,73 @@ public class EmployeeController {
         return new ResponseEntity<>(response, status);
     }
 
+    /**
+     * Ranked search over first name, empid and department that tolerates
+     * partial and misspelled words: "jo", "jhon" and "emp00" all find John, EMP001.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam("q") String query,
+            @RequestParam(value = "deptid", required = false) Integer deptid,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (query.isBlank() || pageSize < 1 || pageSize > maxPageSize || page < 0) {
+            return new ResponseEntity<>(new StandardResponse("error", "q must not be blank, page must be >= 0 and size between 1 and " + maxPageSize), HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(employeeSearchService.search(query, deptid, page, pageSize), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new StandardResponse("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Employees matching any combination of department, rank, manager, salary
+     * and date ranges, e.g. {@code ?deptid=10&deptid=20&minSalary=50000&sort=-salary&size=50}.
+     * Pages are keyset based: pass the returned nextToken back as {@code after}.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterEmployees(@ModelAttribute EmployeeFilter filter,
+            @RequestParam(value = "sort", defaultValue = "id") String sort,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "after", required = false) String after,
+            ServletWebRequest request) {
+        if (listingNotModified(request)) {
+            return null;
+        }
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            return new ResponseEntity<>(new StandardResponse("error", "size must be between 1 and " + maxPageSize), HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(employeeService.filterEmployees(filter, sort, after, pageSize), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new StandardResponse("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Error filtering employees", e);
+            return new ResponseEntity<>(new StandardResponse("error", "An error occurred: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/search/{fname}")
-    public ResponseEntity<?> searchByFirstName(@PathVariable String fname) {
-        log.info("Received request to search employees with fname: {}", fname);
+    public ResponseEntity<?> searchByFirstName(@PathVariable String fname,
+            @RequestParam(value = "prefix", defaultValue = "false") boolean prefix,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        log.debug("Received request to search employees with fname: {}", fname);
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize || (page != null && page < 0)) {
+            return new ResponseEntity<>(new StandardResponse("error", "page must be >= 0 and size between 1 and " + maxPageSize), HttpStatus.BAD_REQUEST);
+        }
         try {
-            List<Employee> employees = employeeService.getEmployeesByFname(fname);
+            List<Employee> employees = prefix || page != null || size != null
+                    ? employeeService.searchEmployeesByFname(fname, prefix, page == null ? 0 : page, pageSize)
+                    : employeeService.getEmployeesByFname(fname);
             if (employees != null && !employees.isEmpty()) {
-                log.info("Found {} employees with fname: {}", employees.size(), fname);
+                log.info(SAMPLED, "Found {} employees with fname: {}", employees.size(), fname);
                 return new ResponseEntity<>(employees, HttpStatus.OK);
             } else {
-                log.info("No employees found with fname: {}", fname);
+                log.info(SAMPLED, "No employees found with fname: {}", fname);
                 return new ResponseEntity<>(new StandardResponse("error", "No employees found with fname: " + fname), HttpStatus.NOT_FOUND);
             }
         } catch (Exception e) {
@@ -157,71 +331,167 @@ public class EmployeeController {
 
     @PutMapping("")
     public ResponseEntity<?> updateEmployee(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody Employee updatedEmployee) {
         log.info("Received request to update employee with empid: {}", updatedEmployee.getEmpid());
         StandardResponse response;
         HttpStatus status;
+        HttpHeaders headers = new HttpHeaders();
 
-        if (!validateBasicAuth(authHeader)) {
-            log.warn("Unauthorized access attempt");
-            response = new StandardResponse("error", "Invalid credentials");
-            status = HttpStatus.UNAUTHORIZED;
-        } else {
-            try {
-                employeeService.updateEmployeeDetails(updatedEmployee.getEmpid(), updatedEmployee);
-                log.info("Employee details updated successfully for empid: {}", updatedEmployee.getEmpid());
-                response = new StandardResponse("success", "Employee details updated successfully");
-                status = HttpStatus.OK;
-            } catch (EmployeeNotFoundException e) {
-                log.info("EmployeeNotFoundException: {}", e.getMessage());
-                response = new StandardResponse("error", e.getMessage());
-                status = HttpStatus.NOT_FOUND;
-            } catch (Exception e) {
-                log.error("Error occurred while updating employee", e);
-                response = new StandardResponse("error", "An error occurred: " + e.getMessage());
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
+        try {
+            Employee updated = employeeService.updateEmployeeDetails(updatedEmployee.getEmpid(), updatedEmployee, parseIfMatch(ifMatch));
+            log.info("Employee details updated successfully for empid: {}", updatedEmployee.getEmpid());
+            response = new StandardResponse("success", "Employee details updated successfully");
+            status = HttpStatus.OK;
+            if (updated != null) {
+                headers = eTagHeaders(updated);
             }
+        } catch (IllegalArgumentException e) {
+            response = new StandardResponse("error", e.getMessage());
+            status = HttpStatus.BAD_REQUEST;
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Rejected stale update for empid: {}", updatedEmployee.getEmpid());
+            response = new StandardResponse("error", staleMessage(updatedEmployee.getEmpid()));
+            status = HttpStatus.PRECONDITION_FAILED;
+        } catch (EmployeeNotFoundException e) {
+            log.info("EmployeeNotFoundException: {}", e.getMessage());
+            response = new StandardResponse("error", e.getMessage());
+            status = HttpStatus.NOT_FOUND;
+        } catch (IdempotencyConflictException e) {
+            log.warn("Rejected reused client_reqid: {}", e.getMessage());
+            response = new StandardResponse("error", e.getMessage());
+            status = HttpStatus.CONFLICT;
+        } catch (Exception e) {
+            log.error("Error occurred while updating employee", e);
+            response = new StandardResponse("error", "An error occurred: " + e.getMessage());
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
 
-        return new ResponseEntity<>(response, status);
+        return new ResponseEntity<>(response, headers, status);
+    }
+
+    /**
+     * Changes only the fields present in the body, e.g. {@code {"salary": 65000}}.
+     * Send the ETag from {@code GET /api/{empid}} as If-Match to reject the
+     * patch when someone else changed the employee in between.
+     */
+    @PatchMapping(value = "/{empid}", consumes = { MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json" })
+    public ResponseEntity<?> patchEmployee(
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @PathVariable String empid,
+            @RequestBody Map<String, Object> changes) {
+        log.info("Received request to patch employee with empid: {}", empid);
+
+        if (changes.isEmpty()) {
+            return new ResponseEntity<>(new StandardResponse("error", "No fields to update"), HttpStatus.BAD_REQUEST);
+        }
+        try {
+            Employee patched = employeeService.patchEmployee(empid, changes, parseIfMatch(ifMatch));
+            log.info("Employee patched successfully for empid: {}", empid);
+            return new ResponseEntity<>(patched, eTagHeaders(patched), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new StandardResponse("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (ConstraintViolationException e) {
+            return new ResponseEntity<>(new StandardResponse("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Rejected stale patch for empid: {}", empid);
+            return new ResponseEntity<>(new StandardResponse("error", staleMessage(empid)), HttpStatus.PRECONDITION_FAILED);
+        } catch (EmployeeNotFoundException e) {
+            return new ResponseEntity<>(new StandardResponse("error", e.getMessage()), HttpStatus.NOT_FOUND);
+        } catch (Exception e) {
+            log.error("Error occurred while patching employee with empid: {}", empid, e);
+            return new ResponseEntity<>(new StandardResponse("error", "An error occurred: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Answers If-None-Match / If-Modified-Since for anything built from the
+     * whole table, using the change counter alone. The counter is read before
+     * any rows, so a body is never labelled newer than the data it holds. The
+     * ETag is weak because the same version is served as JSON, XML, Smile,
+     * CBOR and columns, compressed or not. Returns true once a 304 is set up.
+     */
+    private boolean listingNotModified(ServletWebRequest request) {
+        EmployeeChangeCounter counter = changeTracker.current();
+        request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return request.checkNotModified("W/\"" + counter.getVersion() + "\"", counter.getChangedAt().toEpochMilli());
+    }
+
+    // The version is the ETag; a strong validator since it changes with every committed update
+    private static HttpHeaders eTagHeaders(Employee employee) {
+        HttpHeaders headers = new HttpHeaders();
+        if (employee.getVersion() != null) {
+            headers.setETag("\"" + employee.getVersion() + "\"");
+        }
+        return headers;
+    }
+
+    // Absent or "*" means unconditional, which keeps existing clients working
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
+    private static String staleMessage(String empid) {
+        return "Employee " + empid + " was modified by another request; fetch it again and retry";
     }
 
     @DeleteMapping("/{fname}")
-    public ResponseEntity<StandardResponse> deleteEmployeeByFname(
-            @RequestHeader(value = "Authorization", required = false) String authHeader,
-            @PathVariable String fname) {
+    public ResponseEntity<StandardResponse> deleteEmployeeByFname(@PathVariable String fname) {
 
         log.info("Received request to delete employees with fname: {}", fname);
         StandardResponse response;
         HttpStatus status;
 
-        if (!validateBasicAuth(authHeader)) {
-            log.warn("Unauthorized access attempt");
-            response = new StandardResponse("error", "Invalid credentials");
-            status = HttpStatus.UNAUTHORIZED;
-        } else {
-            try {
-                employeeService.deleteEmployeeByFname(fname);
-                log.info("Employees with fname '{}' deleted successfully", fname);
-                response = new StandardResponse("success", "Employees with fname '" + fname + "' deleted successfully");
-                status = HttpStatus.OK;
-            } catch (EmployeeNotFoundException e) {
-                log.info("EmployeeNotFoundException: {}", e.getMessage());
-                response = new StandardResponse("error", e.getMessage());
-                status = HttpStatus.NOT_FOUND;
-            } catch (Exception e) {
-                log.error("Error occurred while deleting employees with fname: {}", fname, e);
-                response = new StandardResponse("error", "An error occurred: " + e.getMessage());
-                status = HttpStatus.INTERNAL_SERVER_ERROR;
-            }
+        try {
+            employeeService.deleteEmployeeByFname(fname);
+            log.info("Employees with fname '{}' deleted successfully", fname);
+            response = new StandardResponse("success", "Employees with fname '" + fname + "' deleted successfully");
+            status = HttpStatus.OK;
+        } catch (EmployeeNotFoundException e) {
+            log.info("EmployeeNotFoundException: {}", e.getMessage());
+            response = new StandardResponse("error", e.getMessage());
+            status = HttpStatus.NOT_FOUND;
+        } catch (Exception e) {
+            log.error("Error occurred while deleting employees with fname: {}", fname, e);
+            response = new StandardResponse("error", "An error occurred: " + e.getMessage());
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
 
         return new ResponseEntity<>(response, status);
     }
 
+    @PostMapping("/archive")
+    public ResponseEntity<?> archiveEmployees(@RequestBody EmployeeArchiveCriteria criteria) {
+        try {
+            int archived = employeeService.archiveEmployees(criteria);
+            return HttpResponse.generateResponse("success", HttpStatus.OK, Map.of("archived", archived));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(new StandardResponse("error", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Error occurred while archiving employees", e);
+            return new ResponseEntity<>(new StandardResponse("error", "An error occurred: " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/export-to-pdf")
-    public void generatePdfFile(HttpServletResponse response) throws DocumentException, IOException {
+    public void generatePdfFile(HttpServletResponse response, ServletWebRequest request) throws DocumentException, IOException {
+        if (listingNotModified(request)) {
+            return;
+        }
         response.setContentType("application/pdf");
         
         DateFormat dateFormat = new SimpleDateFormat("YYYY-MM-DD:HH:MM:SS");
@@ -231,16 +501,19 @@ public class EmployeeController {
         String headervalue = "attachment; filename=Employee" + currentDateTime + ".pdf";
         
         response.setHeader(headerkey, headervalue);
-        List<Employee> listofEmp = employeeService.getAllExportEmployees();
         PdfGenerator generator = new PdfGenerator();
-        generator.generate(listofEmp, response);
+        // Rows are pulled from a database cursor and written page by page
+        generator.generate(employeeService::forEachEmployee, response);
     }
 
     @RequestMapping(path = "/export-to-excel", method = RequestMethod.GET)
-    public ResponseEntity<Object> exportToExcel(HttpServletResponse response) {
+    public ResponseEntity<Object> exportToExcel(HttpServletResponse response, ServletWebRequest request) {
+        if (listingNotModified(request)) {
+            return null;
+        }
         try {
-            List<Employee> listEmployee = employeeService.getAllExcelEmployees();
-            EmployeeExcelExporter excelExporter = new EmployeeExcelExporter(listEmployee);
+            // Rows are pulled from a database cursor rather than loaded up front
+            EmployeeExcelExporter excelExporter = new EmployeeExcelExporter(employeeService::forEachEmployee);
             excelExporter.export(response);
             log.info("Exported JSON Data into Excel File ");
             return OutputResponse.getResponse("Data exported successfully", HttpStatus.OK);
@@ -0,0 +1,81 @@
+package com.employee.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.config.BasicAuthFilter;
+import com.employee.response.StandardResponse;
+import com.employee.service.ExportFormat;
+import com.employee.service.ExportJob;
+import com.employee.service.ExportJobService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Asynchronous exports: submit a job, poll its status, then download the file.
+ * Jobs are private to the user who submitted them.
+ */
+@RestController
+@RequestMapping("/api/exports")
+public class ExportJobController {
+
+	@Autowired
+	private ExportJobService exportJobService;
+
+	@PostMapping("")
+	public ResponseEntity<?> submitExport(
+			@RequestAttribute(BasicAuthFilter.AUTHENTICATED_USER) String user,
+			@RequestParam("format") ExportFormat format,
+			@RequestParam(value = "fname", required = false) String fname,
+			@RequestParam(value = "deptid", required = false) Integer deptid) {
+		ExportJob job = exportJobService.submit(user, format, fname, deptid);
+		return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+	}
+
+	@GetMapping("")
+	public ResponseEntity<?> listExports(@RequestAttribute(BasicAuthFilter.AUTHENTICATED_USER) String user) {
+		return new ResponseEntity<>(exportJobService.getJobs(user), HttpStatus.OK);
+	}
+
+	@GetMapping("/{id}")
+	public ResponseEntity<?> getExport(
+			@RequestAttribute(BasicAuthFilter.AUTHENTICATED_USER) String user,
+			@PathVariable String id) {
+		ExportJob job = exportJobService.getJob(id, user);
+		if (job == null) {
+			return new ResponseEntity<>(new StandardResponse("error", "Export " + id + " does not exist"), HttpStatus.NOT_FOUND);
+		}
+		return new ResponseEntity<>(job, HttpStatus.OK);
+	}
+
+	@GetMapping("/{id}/file")
+	public ResponseEntity<?> downloadExport(
+			@RequestAttribute(BasicAuthFilter.AUTHENTICATED_USER) String user,
+			@PathVariable String id,
+			HttpServletResponse response) throws IOException {
+		ExportJob job = exportJobService.getJob(id, user);
+		if (job == null || (job.getStatus() == ExportJob.Status.COMPLETED && !Files.exists(job.getFile()))) {
+			return new ResponseEntity<>(new StandardResponse("error", "Export " + id + " does not exist"), HttpStatus.NOT_FOUND);
+		}
+		if (job.getStatus() != ExportJob.Status.COMPLETED) {
+			return new ResponseEntity<>(new StandardResponse("error", "Export " + id + " is " + job.getStatus()), HttpStatus.CONFLICT);
+		}
+
+		response.setContentType(job.getFormat().getContentType());
+		response.setHeader("Content-Disposition", "attachment; filename=employees_" + job.getId() + "." + job.getFormat().getExtension());
+		response.setContentLengthLong(Files.size(job.getFile()));
+		Files.copy(job.getFile(), response.getOutputStream());
+		return null;
+	}
+}
@@ -0,0 +1,68 @@
+package com.employee.controller;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.response.HttpResponse;
+import com.employee.response.StandardResponse;
+import com.employee.service.OrgChartService;
+
+/**
+ * Org chart lookups by empid. Reports and chains come from the in-memory
+ * index as empids; {@code details=true} returns full employee rows from the
+ * database instead.
+ */
+@RestController
+@RequestMapping("/api/org")
+public class OrgChartController {
+
+	private static final Logger log = LoggerFactory.getLogger(OrgChartController.class);
+
+	@Autowired
+	private OrgChartService orgChartService;
+
+	@GetMapping("/{empid}/reports")
+	public ResponseEntity<?> getReports(@PathVariable String empid,
+			@RequestParam(value = "depth", required = false) Integer depth,
+			@RequestParam(value = "details", defaultValue = "false") boolean details) {
+		if (depth != null && depth < 1) {
+			return new ResponseEntity<>(new StandardResponse("error", "depth must be at least 1"), HttpStatus.BAD_REQUEST);
+		}
+		log.info("Received request for reports of empid: {}", empid);
+		Object reports = details
+				? orgChartService.getReportsWithDetails(empid, depth)
+				: orgChartService.getReports(empid, depth);
+		return HttpResponse.generateResponse("success", HttpStatus.OK, reports);
+	}
+
+	@GetMapping("/{empid}/chain")
+	public ResponseEntity<?> getManagementChain(@PathVariable String empid,
+			@RequestParam(value = "details", defaultValue = "false") boolean details) {
+		log.info("Received request for management chain of empid: {}", empid);
+		Object chain = details
+				? orgChartService.getManagementChainWithDetails(empid)
+				: orgChartService.getManagementChain(empid);
+		return HttpResponse.generateResponse("success", HttpStatus.OK, chain);
+	}
+
+	@GetMapping("/{empid}/span")
+	public ResponseEntity<?> getSpanOfControl(@PathVariable String empid) {
+		return HttpResponse.generateResponse("success", HttpStatus.OK, orgChartService.getSpanOfControl(empid));
+	}
+
+	@GetMapping("/{empid}/depth")
+	public ResponseEntity<?> getDepth(@PathVariable String empid) {
+		return HttpResponse.generateResponse("success", HttpStatus.OK, Map.of("depth", orgChartService.getDepth(empid)));
+	}
+
+}
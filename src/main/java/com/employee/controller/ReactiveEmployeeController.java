@@ -0,0 +1,75 @@
+package com.employee.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.employee.entity.Employee;
+import com.employee.response.StandardResponse;
+import com.employee.service.ReactiveEmployeeService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads over R2DBC, next to the JPA-backed {@code /api}. Listings
+ * are streamed as NDJSON or server-sent events: each employee is written as
+ * soon as it is read, and the next one is only requested once the previous
+ * write finished, so slow clients hold back the database instead of filling
+ * memory. Search also accepts application/json, which collects the results.
+ */
+@RestController
+@RequestMapping("/api/reactive/employees")
+public class ReactiveEmployeeController {
+
+	private static final Logger log = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+
+	@Autowired
+	private ReactiveEmployeeService reactiveEmployeeService;
+
+	@GetMapping(value = "", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE })
+	public Flux<Employee> getEmployees(
+			@RequestParam(value = "after", required = false) String after,
+			@RequestParam(value = "limit", required = false) Integer limit) {
+		if (limit != null && limit < 1) {
+			throw new IllegalArgumentException("limit must be at least 1");
+		}
+		return reactiveEmployeeService.getEmployees(after, limit)
+				.doOnError(e -> log.error("Error streaming employees", e));
+	}
+
+	@GetMapping("/{empid}")
+	public Mono<ResponseEntity<Object>> getEmployeeByEmpId(@PathVariable String empid) {
+		return reactiveEmployeeService.getEmployeeByEmpId(empid)
+				.map(employee -> new ResponseEntity<Object>(employee, HttpStatus.OK))
+				.defaultIfEmpty(new ResponseEntity<>(
+						new StandardResponse("error", "Employee with empid " + empid + " does not exist in the database"),
+						HttpStatus.NOT_FOUND));
+	}
+
+	@GetMapping(value = "/search/{fname}",
+			produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	public Flux<Employee> searchByFirstName(@PathVariable String fname,
+			@RequestParam(value = "prefix", defaultValue = "false") boolean prefix) {
+		return reactiveEmployeeService.searchEmployeesByFname(fname, prefix);
+	}
+
+	// Raised before streaming starts. The content type is set explicitly because the
+	// client asked for a stream, which would otherwise leave no way to write the error
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<StandardResponse> handleInvalidRequest(IllegalArgumentException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(new StandardResponse("error", e.getMessage()));
+	}
+
+}
@@ -2,20 +2,30 @@ package com.employee.entity;
 
 import java.sql.Date;
 
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Table(name = "employees")
 @Entity
+// UPDATE statements list only the columns that actually changed
+@DynamicUpdate
 public class Employee {
+	// Pooled sequence ids let Hibernate batch inserts; IDENTITY forces one round trip per row
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+	@SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
 	private Long id;
 	
 	@NotBlank(message = "Employee ID is required")
@@ -37,6 +47,11 @@ public class Employee {
     private Date createdat;
     private Date updatedat;
     private String client_reqid;
+
+    // Optimistic lock, also served as the ETag; clients cannot set it
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
 	public Long getId() {
 		return id;
 	}
@@ -109,6 +124,12 @@ public class Employee {
 	public void setClient_reqid(String client_reqid) {
 		this.client_reqid = client_reqid;
 	}
+	public Long getVersion() {
+		return version;
+	}
+	public void setVersion(Long version) {
+		this.version = version;
+	}
 	
 	 
     
@@ -0,0 +1,34 @@
+package com.employee.entity;
+
+import java.util.List;
+
+/**
+ * Selects the employees moved to employee_shadow by an archive request.
+ * Exactly one of the criteria must be set.
+ */
+public class EmployeeArchiveCriteria {
+
+	private String fname;
+	private Integer deptid;
+	private List<String> empids;
+
+	public String getFname() {
+		return fname;
+	}
+	public void setFname(String fname) {
+		this.fname = fname;
+	}
+	public Integer getDeptid() {
+		return deptid;
+	}
+	public void setDeptid(Integer deptid) {
+		this.deptid = deptid;
+	}
+	public List<String> getEmpids() {
+		return empids;
+	}
+	public void setEmpids(List<String> empids) {
+		this.empids = empids;
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.employee.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Single row counting writes to the employees table. It is bumped in the
+ * same transaction as each write, right before the commit, so its version
+ * changes whenever committed employee data does, and listings can be
+ * validated without reading any employee rows.
+ */
+@Entity
+@Table(name = "employee_changes")
+public class EmployeeChangeCounter {
+
+	public static final int ID = 1;
+
+	@Id
+	private Integer id;
+
+	@Column(nullable = false)
+	private long version;
+
+	@Column(name = "changed_at", nullable = false)
+	private Instant changedAt;
+
+	protected EmployeeChangeCounter() {
+	}
+
+	public EmployeeChangeCounter(long version, Instant changedAt) {
+		this.id = ID;
+		this.version = version;
+		this.changedAt = changedAt;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+	public long getVersion() {
+		return version;
+	}
+	public Instant getChangedAt() {
+		return changedAt;
+	}
+
+}
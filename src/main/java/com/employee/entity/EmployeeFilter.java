@@ -0,0 +1,84 @@
+package com.employee.entity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Criteria for GET /api/filter. Every field is optional and the ones that are
+ * set are combined with AND; a list matches any of its values. Ranges are
+ * inclusive at both ends.
+ */
+public class EmployeeFilter {
+
+	private List<Integer> deptid;
+	private List<Integer> rankid;
+	private Integer reportsto;
+	private Integer minSalary;
+	private Integer maxSalary;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dojFrom;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dojTo;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dobFrom;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dobTo;
+
+	public List<Integer> getDeptid() {
+		return deptid;
+	}
+	public void setDeptid(List<Integer> deptid) {
+		this.deptid = deptid;
+	}
+	public List<Integer> getRankid() {
+		return rankid;
+	}
+	public void setRankid(List<Integer> rankid) {
+		this.rankid = rankid;
+	}
+	public Integer getReportsto() {
+		return reportsto;
+	}
+	public void setReportsto(Integer reportsto) {
+		this.reportsto = reportsto;
+	}
+	public Integer getMinSalary() {
+		return minSalary;
+	}
+	public void setMinSalary(Integer minSalary) {
+		this.minSalary = minSalary;
+	}
+	public Integer getMaxSalary() {
+		return maxSalary;
+	}
+	public void setMaxSalary(Integer maxSalary) {
+		this.maxSalary = maxSalary;
+	}
+	public LocalDate getDojFrom() {
+		return dojFrom;
+	}
+	public void setDojFrom(LocalDate dojFrom) {
+		this.dojFrom = dojFrom;
+	}
+	public LocalDate getDojTo() {
+		return dojTo;
+	}
+	public void setDojTo(LocalDate dojTo) {
+		this.dojTo = dojTo;
+	}
+	public LocalDate getDobFrom() {
+		return dobFrom;
+	}
+	public void setDobFrom(LocalDate dobFrom) {
+		this.dobFrom = dobFrom;
+	}
+	public LocalDate getDobTo() {
+		return dobTo;
+	}
+	public void setDobTo(LocalDate dobTo) {
+		this.dobTo = dobTo;
+	}
+
+}
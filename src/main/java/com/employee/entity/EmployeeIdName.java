@@ -0,0 +1,7 @@
+package com.employee.entity;
+
+/**
+ * Two-column projection of {@link Employee} used by the id/name listings.
+ */
+public record EmployeeIdName(String empid, String fname) {
+}
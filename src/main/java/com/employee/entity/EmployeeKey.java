@@ -0,0 +1,8 @@
+package com.employee.entity;
+
+/**
+ * Identity of an {@link Employee} row, captured before set-based deletes so
+ * listeners can tell which employees went away.
+ */
+public record EmployeeKey(Long id, String empid) {
+}
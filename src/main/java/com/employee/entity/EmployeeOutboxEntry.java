@@ -0,0 +1,67 @@
+package com.employee.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * One committed change to the employees table, written in the same
+ * transaction as the change. The id doubles as the offset consumers resume
+ * from. type is CREATED, UPDATED or DELETED and the payload holds the keys and
+ * saved rows of the whole write as JSON, so a bulk chunk is one entry rather
+ * than one per row.
+ */
+@Entity
+@Table(name = "employee_outbox")
+public class EmployeeOutboxEntry {
+
+	// allocationSize 1 keeps ids in insert order across instances; a pooled block would let
+	// one instance's ids run far ahead of another's and look like missing offsets to the relay
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_outbox_seq")
+	@SequenceGenerator(name = "employee_outbox_seq", sequenceName = "employee_outbox_seq", allocationSize = 1)
+	private Long id;
+
+	@Column(nullable = false, length = 16)
+	private String type;
+
+	@Column(name = "changed_at", nullable = false)
+	private Instant changedAt;
+
+	// text on PostgreSQL; never a large object
+	@JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+	@Column(nullable = false)
+	private String payload;
+
+	protected EmployeeOutboxEntry() {
+	}
+
+	public EmployeeOutboxEntry(String type, Instant changedAt, String payload) {
+		this.type = type;
+		this.changedAt = changedAt;
+		this.payload = payload;
+	}
+
+	public Long getId() {
+		return id;
+	}
+	public String getType() {
+		return type;
+	}
+	public Instant getChangedAt() {
+		return changedAt;
+	}
+	public String getPayload() {
+		return payload;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.employee.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A {@code client_reqid} that has been applied, with the write it was applied
+ * by. Inserted in the same transaction as that write, so a key is on record
+ * exactly when its write committed. Kept apart from the employee row, which
+ * holds only the key of the POST that created it.
+ */
+@Entity
+@Table(name = "employee_request_keys")
+public class EmployeeRequestKey {
+
+	public enum Operation {
+		CREATE, UPDATE
+	}
+
+	@Id
+	@Column(name = "client_reqid")
+	private String clientReqid;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 8)
+	private Operation operation;
+
+	@Column(nullable = false)
+	private String empid;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	protected EmployeeRequestKey() {
+	}
+
+	public EmployeeRequestKey(String clientReqid, Operation operation, String empid, Instant createdAt) {
+		this.clientReqid = clientReqid;
+		this.operation = operation;
+		this.empid = empid;
+		this.createdAt = createdAt;
+	}
+
+	public String getClientReqid() {
+		return clientReqid;
+	}
+	public Operation getOperation() {
+		return operation;
+	}
+	public String getEmpid() {
+		return empid;
+	}
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+}
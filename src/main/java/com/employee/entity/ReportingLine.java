@@ -0,0 +1,8 @@
+package com.employee.entity;
+
+/**
+ * One edge of the org chart: the employee and the id of the manager named in
+ * {@link Employee#getReportsto()}, or {@code null} at the top.
+ */
+public record ReportingLine(Long id, String empid, Integer reportsto) {
+}
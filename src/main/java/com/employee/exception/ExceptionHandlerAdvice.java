@@ -2,11 +2,13 @@ package com.employee.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.employee.response.StandardResponse;
 
@@ -23,6 +25,30 @@ public class ExceptionHandlerAdvice {
             .body(new StandardResponse("error", ex.getMessage()));
     }
     
+    @ExceptionHandler(TooManyExportsException.class)
+    public ResponseEntity<StandardResponse> handleTooManyExports(TooManyExportsException ex) {
+        log.warn("Export rejected: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.TOO_MANY_REQUESTS)
+            .body(new StandardResponse("error", ex.getMessage()));
+    }
+    
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<StandardResponse> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        log.warn("Idempotency key conflict: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(new StandardResponse("error", ex.getMessage()));
+    }
+    
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<StandardResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.info("Stale write rejected: {}", ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.PRECONDITION_FAILED)
+            .body(new StandardResponse("error", "The employee was modified by another request; fetch it again and retry"));
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<StandardResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
         String errorMessage = ex.getBindingResult()
@@ -38,6 +64,14 @@ public class ExceptionHandlerAdvice {
             .body(new StandardResponse("error", errorMessage));
     }
     
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<StandardResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.warn("Invalid value for {}: {}", ex.getName(), ex.getValue());
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(new StandardResponse("error", "Invalid value for " + ex.getName() + ": " + ex.getValue()));
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<StandardResponse> handleGenericError(Exception ex) {
         log.error("Unexpected error occurred", ex);
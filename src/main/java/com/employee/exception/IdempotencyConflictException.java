@@ -0,0 +1,18 @@
+package com.employee.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A write reused a {@code client_reqid} that already belongs to a different
+ * employee, so it cannot be a retry of the original request.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotencyConflictException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public IdempotencyConflictException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,14 @@
+package com.employee.exception;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyExportsException extends RuntimeException {
+
+	private static final long serialVersionUID = -2318820419466375206L;
+
+	   public TooManyExportsException(String message) {
+	      super(message);
+	   }
+
+}
@@ -0,0 +1,19 @@
+package com.employee.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.employee.entity.EmployeeChangeCounter;
+
+public interface EmployeeChangeCounterRepository extends JpaRepository<EmployeeChangeCounter, Integer> {
+
+	// Runs just before each writing transaction commits; 0 means the row does not exist yet
+	@Modifying
+	@Query("update EmployeeChangeCounter c set c.version = c.version + 1, c.changedAt = :changedAt where c.id = " + EmployeeChangeCounter.ID)
+	int increment(@Param("changedAt") Instant changedAt);
+
+}
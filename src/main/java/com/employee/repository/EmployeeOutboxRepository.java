@@ -0,0 +1,29 @@
+package com.employee.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.employee.entity.EmployeeOutboxEntry;
+import com.employee.response.EmployeeChange;
+
+public interface EmployeeOutboxRepository extends JpaRepository<EmployeeOutboxEntry, Long> {
+
+	// Offset range in offset order, read straight into DTOs so long replays never fill the persistence context
+	@Query("select new com.employee.response.EmployeeChange(e.id, e.type, e.changedAt, e.payload) from EmployeeOutboxEntry e"
+			+ " where e.id > :after and e.id <= :upTo order by e.id")
+	List<EmployeeChange> findChanges(@Param("after") long after, @Param("upTo") long upTo, Limit limit);
+
+	@Query("select coalesce(max(e.id), 0) from EmployeeOutboxEntry e")
+	long findMaxId();
+
+	@Modifying
+	@Query("delete from EmployeeOutboxEntry e where e.changedAt < :before")
+	int deleteByChangedAtBefore(@Param("before") Instant before);
+
+}
@@ -0,0 +1,92 @@
+package com.employee.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.employee.entity.Employee;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads of the employees table over R2DBC. Rows are mapped onto
+ * detached {@link Employee} instances so responses look exactly like the
+ * servlet API's. Writes stay on JPA.
+ */
+@Repository
+public class EmployeeReactiveRepository {
+
+	// Rows fetched per round trip; PostgreSQL then streams through a portal and
+	// stops fetching while the subscriber is not requesting more
+	private static final int FETCH_SIZE = 500;
+
+	private final DatabaseClient databaseClient;
+
+	public EmployeeReactiveRepository(DatabaseClient databaseClient) {
+		this.databaseClient = databaseClient;
+	}
+
+	public Flux<Employee> findByIdGreaterThanOrderById(long afterId, Integer limit) {
+		String sql = "select * from employees where id > :afterId order by id" + (limit == null ? "" : " limit :limit");
+		DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind("afterId", afterId);
+		if (limit != null) {
+			spec = spec.bind("limit", limit);
+		}
+		return spec.filter(statement -> statement.fetchSize(FETCH_SIZE))
+				.map(EmployeeReactiveRepository::toEmployee)
+				.all();
+	}
+
+	public Mono<Employee> findByEmpid(String empid) {
+		return databaseClient.sql("select * from employees where empid = :empid")
+				.bind("empid", empid)
+				.map(EmployeeReactiveRepository::toEmployee)
+				.first();
+	}
+
+	// Same predicates as EmployeeRepository.findByFnameIgnoreCase, so the lower(fname) index applies
+	public Flux<Employee> findByFnameIgnoreCase(String fname) {
+		return databaseClient.sql("select * from employees where lower(fname) = lower(:fname) order by id")
+				.bind("fname", fname)
+				.filter(statement -> statement.fetchSize(FETCH_SIZE))
+				.map(EmployeeReactiveRepository::toEmployee)
+				.all();
+	}
+
+	// Caller escapes LIKE wildcards in the prefix with a backslash
+	public Flux<Employee> findByFnameStartingWithIgnoreCase(String prefix) {
+		return databaseClient.sql("select * from employees where lower(fname) like concat(lower(:prefix), '%') escape '\\' order by id")
+				.bind("prefix", prefix)
+				.filter(statement -> statement.fetchSize(FETCH_SIZE))
+				.map(EmployeeReactiveRepository::toEmployee)
+				.all();
+	}
+
+	private static Employee toEmployee(Readable row) {
+		Employee employee = new Employee();
+		employee.setId(row.get("id", Long.class));
+		employee.setEmpid(row.get("empid", String.class));
+		employee.setFname(row.get("fname", String.class));
+		employee.setDob(toDate(row.get("dob", LocalDate.class)));
+		employee.setDoj(toDate(row.get("doj", LocalDate.class)));
+		Integer salary = row.get("salary", Integer.class);
+		employee.setSalary(salary == null ? 0 : salary);
+		employee.setReportsto(row.get("reportsto", Integer.class));
+		employee.setDeptid(row.get("deptid", Integer.class));
+		employee.setRankid(row.get("rankid", Integer.class));
+		employee.setCreatedat(toDate(row.get("createdat", LocalDate.class)));
+		employee.setUpdatedat(toDate(row.get("updatedat", LocalDate.class)));
+		employee.setClient_reqid(row.get("client_reqid", String.class));
+		employee.setVersion(row.get("version", Long.class));
+		return employee;
+	}
+
+	private static Date toDate(LocalDate date) {
+		return date == null ? null : Date.valueOf(date);
+	}
+
+}
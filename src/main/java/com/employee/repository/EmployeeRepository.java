@@ -1,14 +1,128 @@
 package com.employee.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeIdName;
+import com.employee.entity.EmployeeKey;
+import com.employee.entity.ReportingLine;
+import com.employee.response.EmployeeGroupStatistics;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+// Specifications come from EmployeeSpecifications
+public interface EmployeeRepository extends JpaRepository<Employee, Integer>, JpaSpecificationExecutor<Employee> {
 
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
-	
 	Employee findByEmpid(String empid);
-	
+
 	void deleteByfname(String fname);
 	Employee findByfname(String fname);
 
+	// Bulk delete paired with EmployeeShadowRepo.archiveByIds; it bypasses the persistence context
+	@Modifying(clearAutomatically = true)
+	@Query("delete from Employee e where e.id in :ids")
+	int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+	// Backed by the unique index on client_reqid from db/indexes-*.sql
+	@Query("select e.empid from Employee e where e.client_reqid = :clientReqid")
+	String findEmpidByClientReqid(@Param("clientReqid") String clientReqid);
+
+	// Rows an archive is about to move, locked so they cannot change or go away before they are copied
+	// and deleted; the keys also feed EmployeeChangedEvent
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select new com.employee.entity.EmployeeKey(e.id, e.empid) from Employee e where e.fname = :fname")
+	List<EmployeeKey> findKeysByFname(@Param("fname") String fname);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select new com.employee.entity.EmployeeKey(e.id, e.empid) from Employee e where e.deptid = :deptid")
+	List<EmployeeKey> findKeysByDeptid(@Param("deptid") Integer deptid);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select new com.employee.entity.EmployeeKey(e.id, e.empid) from Employee e where e.empid in :empids")
+	List<EmployeeKey> findKeysByEmpids(@Param("empids") Collection<String> empids);
+
+	// Selects only the two columns, so no entities are hydrated or dirty-checked
+	@Query("select new com.employee.entity.EmployeeIdName(e.empid, e.fname) from Employee e order by e.id")
+	List<EmployeeIdName> findAllIdNames();
+
+	// lower(fname) matches the functional index created by db/indexes-postgresql.sql
+	@Query("select e from Employee e where lower(e.fname) = lower(:fname) order by e.id")
+	List<Employee> findByFnameIgnoreCase(@Param("fname") String fname);
+
+	@Query("select e from Employee e where lower(e.fname) = lower(:fname) order by e.id")
+	List<Employee> findByFnameIgnoreCase(@Param("fname") String fname, Pageable pageable);
+
+	// Caller escapes LIKE wildcards in the prefix with a backslash
+	@Query("select e from Employee e where lower(e.fname) like concat(lower(:prefix), '%') escape '\\' order by e.id")
+	List<Employee> findByFnameStartingWithIgnoreCase(@Param("prefix") String prefix, Pageable pageable);
+
+	// Keyset page: seeks past the last id seen instead of using OFFSET
+	List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+	// Every reporting edge, for building the in-memory org chart
+	@Query("select new com.employee.entity.ReportingLine(e.id, e.empid, e.reportsto) from Employee e")
+	List<ReportingLine> findAllReportingLines();
+
+	// Recursive walks over reportsto (indexed by db/indexes-*.sql); depth is capped so a cycle cannot recurse forever
+	@Query(value = "with recursive subtree (id, depth) as ("
+			+ " select id, 0 from employees where empid = :empid"
+			+ " union all"
+			+ " select e.id, s.depth + 1 from employees e join subtree s on e.reportsto = s.id where s.depth < :maxDepth)"
+			+ " select e.* from employees e join subtree s on e.id = s.id where s.depth > 0 order by s.depth, e.id",
+			nativeQuery = true)
+	List<Employee> findReportsByEmpid(@Param("empid") String empid, @Param("maxDepth") int maxDepth);
+
+	@Query(value = "with recursive chain (id, reportsto, depth) as ("
+			+ " select id, reportsto, 0 from employees where empid = :empid"
+			+ " union all"
+			+ " select e.id, e.reportsto, c.depth + 1 from employees e join chain c on e.id = c.reportsto where c.depth < :maxDepth)"
+			+ " select e.* from employees e join chain c on e.id = c.id where c.depth > 0 order by c.depth",
+			nativeQuery = true)
+	List<Employee> findManagementChainByEmpid(@Param("empid") String empid, @Param("maxDepth") int maxDepth);
+
+	// Aggregated in the database. percentile_cont is an ordered-set aggregate in both PostgreSQL and H2;
+	// Hibernate types it like the sort key, hence the casts. "by day" turns a date difference into a day count.
+	@Query("select new com.employee.response.EmployeeGroupStatistics(e.deptid, count(e), min(e.salary), max(e.salary), avg(e.salary),"
+			+ " cast(percentile_cont(0.5) within group (order by e.salary) as Double), cast(percentile_cont(0.9) within group (order by e.salary) as Double),"
+			+ " (current_date - max(e.doj)) by day, (current_date - min(e.doj)) by day, avg((current_date - e.doj) by day))"
+			+ " from Employee e group by e.deptid order by e.deptid")
+	List<EmployeeGroupStatistics> summarizeByDeptid();
+
+	@Query("select new com.employee.response.EmployeeGroupStatistics(e.rankid, count(e), min(e.salary), max(e.salary), avg(e.salary),"
+			+ " cast(percentile_cont(0.5) within group (order by e.salary) as Double), cast(percentile_cont(0.9) within group (order by e.salary) as Double),"
+			+ " (current_date - max(e.doj)) by day, (current_date - min(e.doj)) by day, avg((current_date - e.doj) by day))"
+			+ " from Employee e group by e.rankid order by e.rankid")
+	List<EmployeeGroupStatistics> summarizeByRankid();
+
+	// Forward-only cursor over the whole table; must be consumed inside a transaction
+	@Query("select e from Employee e order by e.id")
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<Employee> streamAllOrderById();
+
+	// The same cursor narrowed in the database; a null argument leaves that column unfiltered
+	@Query("select e from Employee e where (:fname is null or lower(e.fname) = lower(:fname))"
+			+ " and (:deptid is null or e.deptid = :deptid) order by e.id")
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<Employee> streamByFnameAndDeptidOrderById(@Param("fname") String fname, @Param("deptid") Integer deptid);
+
 }
@@ -0,0 +1,19 @@
+package com.employee.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.employee.entity.EmployeeRequestKey;
+
+public interface EmployeeRequestKeyRepository extends JpaRepository<EmployeeRequestKey, String> {
+
+	@Modifying
+	@Query("delete from EmployeeRequestKey k where k.operation = :operation and k.createdAt < :before")
+	int deleteByOperationAndCreatedAtBefore(@Param("operation") EmployeeRequestKey.Operation operation,
+			@Param("before") Instant before);
+
+}
@@ -1,7 +1,12 @@
 
   package com.employee.repository;
   
+  import java.util.Collection;
+
   import org.springframework.data.jpa.repository.JpaRepository;
+  import org.springframework.data.jpa.repository.Modifying;
+  import org.springframework.data.jpa.repository.Query;
+  import org.springframework.data.repository.query.Param;
   
   import com.employee.entity.Employee; import
   com.employee.entity.EmployeeShadow;
@@ -11,5 +16,16 @@
   
   Employee save(Employee existingEmployee);
   
+  // Set-based archival: copy the given employees, unchanged, in one INSERT ... SELECT.
+  // Takes the ids read by EmployeeRepository.findKeysBy* and is paired with deleteAllByIds on the same ids,
+  // so rows committed by others in between are neither copied nor deleted.
+  // EmployeeShadow maps its dates as timestamps, hence the casts from Employee's java.sql.Date columns.
+  
+  @Modifying
+  @Query("insert into EmployeeShadow (empid, fname, dob, doj, salary, reportsto, deptid, rankid, createdat, updatedat, client_reqid) "
+      + "select e.empid, e.fname, cast(e.dob as Timestamp), cast(e.doj as Timestamp), e.salary, e.reportsto, e.deptid, e.rankid, cast(e.createdat as Timestamp), cast(e.updatedat as Timestamp), e.client_reqid "
+      + "from Employee e where e.id in :ids")
+  int archiveByIds(@Param("ids") Collection<Long> ids);
+  
   }
- 
\ No newline at end of file
+ 
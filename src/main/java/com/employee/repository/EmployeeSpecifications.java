@@ -0,0 +1,79 @@
+package com.employee.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeFilter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Criteria predicates for {@link EmployeeRepository#findBy}. Every value is a
+ * bind parameter, so filters with the same shape share one prepared statement.
+ */
+public final class EmployeeSpecifications {
+
+	private EmployeeSpecifications() {
+	}
+
+	public static Specification<Employee> matching(EmployeeFilter filter) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			in(predicates, root.get("deptid"), filter.getDeptid());
+			in(predicates, root.get("rankid"), filter.getRankid());
+			if (filter.getReportsto() != null) {
+				predicates.add(cb.equal(root.get("reportsto"), filter.getReportsto()));
+			}
+			between(predicates, cb, root.get("salary"), filter.getMinSalary(), filter.getMaxSalary());
+			between(predicates, cb, root.get("doj"), toDate(filter.getDojFrom()), toDate(filter.getDojTo()));
+			between(predicates, cb, root.get("dob"), toDate(filter.getDobFrom()), toDate(filter.getDobTo()));
+			return cb.and(predicates.toArray(Predicate[]::new));
+		};
+	}
+
+	/**
+	 * Rows strictly after (attribute, id) = (value, lastId) in the given
+	 * direction, with id breaking ties. The attribute must not be nullable.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static Specification<Employee> seekAfter(String attribute, Comparable<?> value, long lastId, boolean descending) {
+		return (root, query, cb) -> {
+			Path<Long> id = root.get("id");
+			Predicate idAfter = descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+			if ("id".equals(attribute)) {
+				return idAfter;
+			}
+			Path<Comparable> path = root.get(attribute);
+			Comparable bound = value;
+			Predicate valueAfter = descending ? cb.lessThan(path, bound) : cb.greaterThan(path, bound);
+			return cb.or(valueAfter, cb.and(cb.equal(path, bound), idAfter));
+		};
+	}
+
+	private static void in(List<Predicate> predicates, Path<Integer> path, List<Integer> values) {
+		if (values != null && !values.isEmpty()) {
+			predicates.add(path.in(values));
+		}
+	}
+
+	private static <T extends Comparable<? super T>> void between(List<Predicate> predicates, CriteriaBuilder cb, Path<T> path,
+			T from, T to) {
+		if (from != null) {
+			predicates.add(cb.greaterThanOrEqualTo(path, from));
+		}
+		if (to != null) {
+			predicates.add(cb.lessThanOrEqualTo(path, to));
+		}
+	}
+
+	private static Date toDate(LocalDate date) {
+		return date == null ? null : Date.valueOf(date);
+	}
+}
@@ -0,0 +1,62 @@
+package com.employee.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkIngestResponse {
+	private int received;
+	private int inserted;
+	private List<RowFailure> failures = new ArrayList<>();
+
+	public int getReceived() {
+		return received;
+	}
+
+	public void setReceived(int received) {
+		this.received = received;
+	}
+
+	public int getInserted() {
+		return inserted;
+	}
+
+	public void setInserted(int inserted) {
+		this.inserted = inserted;
+	}
+
+	public int getFailed() {
+		return failures.size();
+	}
+
+	public List<RowFailure> getFailures() {
+		return failures;
+	}
+
+	public void addFailure(int row, String empid, String message) {
+		failures.add(new RowFailure(row, empid, message));
+	}
+
+	public static class RowFailure {
+		private int row;
+		private String empid;
+		private String message;
+
+		public RowFailure(int row, String empid, String message) {
+			this.row = row;
+			this.empid = empid;
+			this.message = message;
+		}
+
+		public int getRow() {
+			return row;
+		}
+
+		public String getEmpid() {
+			return empid;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.employee.response;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * One entry of the change stream. {@code payload} is copied verbatim from the
+ * outbox: {@code {"keys":[{"id":..,"empid":..}],"employees":[...]}}, with
+ * employees empty for DELETED. Consumers resume after the last offset they saw.
+ */
+public record EmployeeChange(long offset, String type, Instant changedAt, @JsonRawValue String payload) {
+}
@@ -0,0 +1,60 @@
+package com.employee.response;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.employee.entity.Employee;
+
+/**
+ * Employees laid out column by column: one array per field, with row i made
+ * of the i-th element of each. Field names appear once per response rather
+ * than once per row, and runs of similar values sit together, which is what
+ * makes this layout compress well. One page at a time, continued from
+ * {@code nextToken} like {@link EmployeePage}.
+ */
+public record EmployeeColumns(
+		int count,
+		String nextToken,
+		List<Long> id,
+		List<String> empid,
+		List<String> fname,
+		List<Date> dob,
+		List<Date> doj,
+		List<Integer> salary,
+		List<Integer> reportsto,
+		List<Integer> deptid,
+		List<Integer> rankid,
+		List<Date> createdat,
+		List<Date> updatedat,
+		List<String> client_reqid,
+		List<Long> version) {
+
+	public static final String MEDIA_TYPE = "application/vnd.employee.columns";
+
+	public static EmployeeColumns of(List<Employee> rows, String nextToken) {
+		return new EmployeeColumns(rows.size(), nextToken,
+				column(rows, Employee::getId),
+				column(rows, Employee::getEmpid),
+				column(rows, Employee::getFname),
+				column(rows, Employee::getDob),
+				column(rows, Employee::getDoj),
+				column(rows, Employee::getSalary),
+				column(rows, Employee::getReportsto),
+				column(rows, Employee::getDeptid),
+				column(rows, Employee::getRankid),
+				column(rows, Employee::getCreatedat),
+				column(rows, Employee::getUpdatedat),
+				column(rows, Employee::getClient_reqid),
+				column(rows, Employee::getVersion));
+	}
+
+	private static <T> List<T> column(List<Employee> rows, Function<Employee, T> field) {
+		List<T> values = new ArrayList<>(rows.size());
+		for (Employee row : rows) {
+			values.add(field.apply(row));
+		}
+		return values;
+	}
+}
@@ -0,0 +1,19 @@
+package com.employee.response;
+
+/**
+ * Headcount, salary and tenure figures for one department or rank. Tenure is
+ * counted in days from {@code doj} to today; employees without a joining date
+ * are left out of the tenure figures but still counted.
+ */
+public record EmployeeGroupStatistics(
+		Integer group,
+		long headcount,
+		Integer minSalary,
+		Integer maxSalary,
+		Double avgSalary,
+		Double medianSalary,
+		Double p90Salary,
+		Long minTenureDays,
+		Long maxTenureDays,
+		Double avgTenureDays) {
+}
@@ -0,0 +1,43 @@
+package com.employee.response;
+
+import java.util.List;
+
+import com.employee.entity.Employee;
+
+public class EmployeePage {
+	private List<Employee> items;
+	private String nextToken;
+	private int size;
+
+	public List<Employee> getItems() {
+		return items;
+	}
+
+	public void setItems(List<Employee> items) {
+		this.items = items;
+	}
+
+	public String getNextToken() {
+		return nextToken;
+	}
+
+	public void setNextToken(String nextToken) {
+		this.nextToken = nextToken;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	public EmployeePage(List<Employee> items, String nextToken, int size) {
+		super();
+		this.items = items;
+		this.nextToken = nextToken;
+		this.size = size;
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.employee.response;
+
+/**
+ * One match of {@code GET /api/search}, taken from the search index.
+ * Higher scores rank first.
+ */
+public record EmployeeSearchHit(String empid, String fname, Integer deptid, float score) {
+}
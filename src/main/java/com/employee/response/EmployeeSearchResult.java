@@ -0,0 +1,11 @@
+package com.employee.response;
+
+import java.util.List;
+
+/**
+ * A page of ranked search hits. {@code total} counts all matches, not just
+ * this page; past a thousand or so matches counting stops early, and
+ * {@code totalExact} is false to say there are at least that many.
+ */
+public record EmployeeSearchResult(List<EmployeeSearchHit> items, long total, boolean totalExact, int page, int size) {
+}
@@ -0,0 +1,8 @@
+package com.employee.response;
+
+/**
+ * An employee below the requested manager, {@code depth} levels down
+ * (1 for direct reports).
+ */
+public record OrgChartNode(String empid, int depth) {
+}
@@ -0,0 +1,7 @@
+package com.employee.response;
+
+/**
+ * Direct reports and everyone below a manager across all levels.
+ */
+public record SpanOfControl(int direct, int total) {
+}
@@ -0,0 +1,70 @@
+package com.employee.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor handed to clients for keyset pagination. It wraps the last
+ * employee id returned so the next page can seek past it, and for sorted
+ * listings also the sort it was issued for and the last sort value.
+ */
+public final class ContinuationToken {
+
+	private static final String PREFIX = "id:";
+	private static final String SEEK_PREFIX = "seek:";
+
+	/**
+	 * Last row of a sorted page: its id and the value of the sort column.
+	 */
+	public record Position(long lastId, String value) {
+	}
+
+	private ContinuationToken() {
+	}
+
+	public static String encode(Long lastId) {
+		String raw = PREFIX + lastId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Long decode(String token) {
+		if (token == null || token.isBlank()) {
+			return 0L;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			if (!raw.startsWith(PREFIX)) {
+				throw new IllegalArgumentException("Invalid continuation token");
+			}
+			return Long.valueOf(raw.substring(PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid continuation token", e);
+		}
+	}
+
+	public static String encode(String sort, Position position) {
+		String raw = SEEK_PREFIX + sort + ":" + position.lastId() + ":" + position.value();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns null for a missing token; rejects tokens issued for another sort.
+	 */
+	public static Position decode(String token, String sort) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String prefix = SEEK_PREFIX + sort + ":";
+			int separator = raw.indexOf(':', prefix.length());
+			if (!raw.startsWith(prefix) || separator < 0) {
+				throw new IllegalArgumentException("Invalid continuation token");
+			}
+			// The value goes last because it may itself contain ':'
+			return new Position(Long.parseLong(raw.substring(prefix.length(), separator)), raw.substring(separator + 1));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid continuation token", e);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.employee.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.employee.config.CacheConfig;
+import com.employee.repository.EmployeeRepository;
+import com.employee.response.EmployeeGroupStatistics;
+
+/**
+ * Per-department and per-rank statistics, aggregated by the database. The
+ * summaries are kept in the {@link CacheConfig#EMPLOYEE_ANALYTICS} cache and
+ * dropped whenever an {@link EmployeeChangedEvent} commits, so repeated
+ * dashboard reads cost one GROUP BY per write rather than one per request.
+ */
+@Service
+public class EmployeeAnalyticsService {
+
+	private static final Logger log = LoggerFactory.getLogger(EmployeeAnalyticsService.class);
+
+	public enum Grouping {
+		DEPARTMENT, RANK
+	}
+
+	private final EmployeeRepository employeeRepository;
+
+	public EmployeeAnalyticsService(EmployeeRepository employeeRepository) {
+		this.employeeRepository = employeeRepository;
+	}
+
+	@Cacheable(cacheNames = CacheConfig.EMPLOYEE_ANALYTICS, key = "#grouping")
+	public List<EmployeeGroupStatistics> summarize(Grouping grouping) {
+		log.info("Computing employee statistics by {}", grouping);
+		return grouping == Grouping.DEPARTMENT
+				? employeeRepository.summarizeByDeptid()
+				: employeeRepository.summarizeByRankid();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@CacheEvict(cacheNames = CacheConfig.EMPLOYEE_ANALYTICS, allEntries = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		log.debug("Dropping cached employee statistics after {} event", event.type());
+	}
+
+}
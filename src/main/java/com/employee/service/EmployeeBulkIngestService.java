@@ -0,0 +1,147 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+import com.employee.response.BulkIngestResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Inserts large employee feeds in chunks. Each chunk is committed in its own
+ * transaction and flushed as JDBC batches (see hibernate.jdbc.batch_size), so
+ * memory stays bounded by the chunk size regardless of feed length. A chunk the
+ * database rejects is split until only the offending rows are reported failed.
+ */
+@Service
+public class EmployeeBulkIngestService {
+
+	private static final Logger log = LoggerFactory.getLogger(EmployeeBulkIngestService.class);
+
+	private final EmployeeRepository employeeRepository;
+	private final EntityManager entityManager;
+	private final Validator validator;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int chunkSize;
+
+	public EmployeeBulkIngestService(EmployeeRepository employeeRepository, EntityManager entityManager,
+			Validator validator, PlatformTransactionManager transactionManager,
+			ApplicationEventPublisher eventPublisher,
+			@Value("${app.bulk.chunk-size:1000}") int chunkSize) {
+		this.employeeRepository = employeeRepository;
+		this.entityManager = entityManager;
+		this.validator = validator;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.eventPublisher = eventPublisher;
+		this.chunkSize = chunkSize;
+	}
+
+	public BulkIngestResponse ingest(Iterator<Employee> rows) {
+		BulkIngestResponse result = new BulkIngestResponse();
+		List<Employee> chunk = new ArrayList<>(chunkSize);
+		List<Integer> chunkRows = new ArrayList<>(chunkSize);
+		int row = 0;
+
+		while (true) {
+			Employee employee;
+			try {
+				if (!rows.hasNext()) {
+					break;
+				}
+				employee = rows.next();
+			} catch (RuntimeException e) {
+				// The body is unreadable from here on; keep what was already parsed
+				result.addFailure(row, null, "Unreadable row: " + e.getMessage());
+				break;
+			}
+
+			String violations = validate(employee);
+			if (violations != null) {
+				result.addFailure(row, employee.getEmpid(), violations);
+			} else {
+				chunk.add(employee);
+				chunkRows.add(row);
+				if (chunk.size() == chunkSize) {
+					saveChunk(chunk, chunkRows, result);
+				}
+			}
+			row++;
+		}
+		saveChunk(chunk, chunkRows, result);
+
+		result.setReceived(row);
+		log.info("Bulk ingest finished: {} received, {} inserted, {} failed", row, result.getInserted(), result.getFailed());
+		return result;
+	}
+
+	private String validate(Employee employee) {
+		if (employee == null) {
+			return "Row is empty";
+		}
+		Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream()
+				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+				.sorted()
+				.collect(Collectors.joining(", "));
+	}
+
+	private void saveChunk(List<Employee> chunk, List<Integer> chunkRows, BulkIngestResponse result) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		insert(List.copyOf(chunk), List.copyOf(chunkRows), result);
+		chunk.clear();
+		chunkRows.clear();
+	}
+
+	// A rejected chunk is retried in halves until the offending rows stand alone,
+	// so one bad row costs about 2 log2(chunk-size) extra transactions, not its chunk
+	private void insert(List<Employee> rows, List<Integer> rowNumbers, BulkIngestResponse result) {
+		List<Long> ids = rows.stream().map(Employee::getId).toList();
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				employeeRepository.saveAll(rows);
+				employeeRepository.flush();
+				entityManager.clear();
+				eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.CREATED, rows));
+			});
+			result.setInserted(result.getInserted() + rows.size());
+		} catch (DataAccessException | TransactionException e) {
+			String cause = e.getMostSpecificCause().getMessage();
+			if (rows.size() == 1) {
+				result.addFailure(rowNumbers.get(0), rows.get(0).getEmpid(), "Rejected by database: " + cause);
+				return;
+			}
+			log.warn("Bulk ingest chunk of {} rows failed, retrying it in halves: {}", rows.size(), cause);
+			// The rolled back insert left generated ids and versions behind; without them the rows are new again
+			for (int i = 0; i < rows.size(); i++) {
+				rows.get(i).setId(ids.get(i));
+				rows.get(i).setVersion(null);
+			}
+			int half = rows.size() / 2;
+			insert(rows.subList(0, half), rowNumbers.subList(0, half), result);
+			insert(rows.subList(half, rows.size()), rowNumbers.subList(half, rows.size()), result);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.employee.service;
+
+import java.util.List;
+
+import com.employee.response.EmployeeChange;
+
+/**
+ * Changes relayed in one poll, in offset order. {@code afterOffset} is where
+ * the previous batch ended, so a sink can tell whether it missed anything
+ * between the two; offsets inside a batch may skip ids of rolled back writes.
+ */
+public record EmployeeChangeBatch(long afterOffset, List<EmployeeChange> changes) {
+
+	public long lastOffset() {
+		return changes.isEmpty() ? afterOffset : changes.get(changes.size() - 1).offset();
+	}
+}
@@ -0,0 +1,24 @@
+package com.employee.service;
+
+/**
+ * Destination for the employee change stream, fed by
+ * {@link EmployeeOutboxRelay}. Every {@code EmployeeChangeSink} bean is picked
+ * up; {@link EmployeeChangeStream} serves Server-Sent Events, and a message
+ * broker producer would be another implementation.
+ *
+ * Delivery is at least once: a sink that throws gets the same batch again on
+ * the next poll, and after a restart the relay resumes from
+ * {@link #startOffset()}, so a broker sink should report the offset of the
+ * last batch it durably handed over.
+ */
+public interface EmployeeChangeSink {
+
+	/**
+	 * Offset after which this sink wants changes, asked once when the relay
+	 * starts. Return the current end of the outbox to skip history.
+	 */
+	long startOffset();
+
+	void publish(EmployeeChangeBatch batch) throws Exception;
+
+}
@@ -0,0 +1,242 @@
+package com.employee.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.employee.repository.EmployeeOutboxRepository;
+import com.employee.response.EmployeeChange;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Server-Sent Events sink of the change stream. Each event carries its offset
+ * as the SSE id, so an EventSource that reconnects with Last-Event-ID resumes
+ * where it stopped: subscribers behind the relay are first replayed from the
+ * outbox, then follow the live batches.
+ *
+ * The relay only queues batches; every subscriber is written to, and replayed
+ * for, on a thread of its own, so a slow client holds up nobody else. One that
+ * lets app.outbox.subscriber-queue batches pile up is disconnected and has to
+ * resume with Last-Event-ID.
+ */
+@Service
+public class EmployeeChangeStream implements EmployeeChangeSink {
+
+	private static final int REPLAY_PAGE_SIZE = 100;
+
+	private final EmployeeOutboxRepository outboxRepository;
+	private final long timeoutMillis;
+	private final long maxReplay;
+	private final int queueCapacity;
+	private final Executor executor;
+	private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+	// Last offset handed to subscribers by the relay; -1 until first asked
+	private volatile long relayedOffset = -1;
+
+	@Autowired
+	public EmployeeChangeStream(EmployeeOutboxRepository outboxRepository,
+			@Value("${app.outbox.sse-timeout:PT30M}") Duration timeout,
+			@Value("${app.outbox.max-replay:10000}") long maxReplay,
+			@Value("${app.outbox.subscriber-queue:64}") int queueCapacity,
+			Environment environment) {
+		// Each subscriber drains on at most one thread at a time, so the pool never outgrows the subscribers
+		this(outboxRepository, timeout, maxReplay, queueCapacity, Executors.newCachedThreadPool(
+				Threading.VIRTUAL.isActive(environment)
+						? new VirtualThreadTaskExecutor("changes-").getVirtualThreadFactory()
+						: new CustomizableThreadFactory("changes-")));
+	}
+
+	EmployeeChangeStream(EmployeeOutboxRepository outboxRepository, Duration timeout, long maxReplay,
+			int queueCapacity, Executor executor) {
+		this.outboxRepository = outboxRepository;
+		this.timeoutMillis = timeout.toMillis();
+		this.maxReplay = maxReplay;
+		this.queueCapacity = queueCapacity;
+		this.executor = executor;
+	}
+
+	@Override
+	public synchronized long startOffset() {
+		if (relayedOffset < 0) {
+			relayedOffset = outboxRepository.findMaxId();
+		}
+		return relayedOffset;
+	}
+
+	/**
+	 * Streams changes after {@code afterOffset}, or only new ones when it is
+	 * null. Offsets further back than app.outbox.max-replay, or ahead of the
+	 * relay, are refused; such a consumer should reload GET /api and subscribe
+	 * afresh.
+	 */
+	public SseEmitter subscribe(Long afterOffset) {
+		long current = startOffset();
+		long from = afterOffset == null ? current : afterOffset;
+		if (from < 0 || from > current || current - from > maxReplay) {
+			throw new IllegalArgumentException("Offset " + afterOffset + " is out of range; reload and subscribe without an offset");
+		}
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Subscriber subscriber = new Subscriber(emitter, from);
+		// Registered before reading relayedOffset: a batch relayed meanwhile is either replayed here or queued after it
+		subscribers.add(subscriber);
+		emitter.onCompletion(() -> subscribers.remove(subscriber));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(error -> subscribers.remove(subscriber));
+		subscriber.open();
+		subscriber.offer(new EmployeeChangeBatch(relayedOffset, List.of()));
+		return emitter;
+	}
+
+	@Override
+	public void publish(EmployeeChangeBatch batch) {
+		relayedOffset = batch.lastOffset();
+		for (Subscriber subscriber : subscribers) {
+			subscriber.offer(batch);
+		}
+	}
+
+	int subscriberCount() {
+		return subscribers.size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (executor instanceof ExecutorService pool) {
+			pool.shutdownNow();
+		}
+	}
+
+	private final class Subscriber {
+
+		private final SseEmitter emitter;
+		private final BlockingQueue<EmployeeChangeBatch> pending = new ArrayBlockingQueue<>(queueCapacity);
+		private final AtomicBoolean draining = new AtomicBoolean();
+		// Only touched by the draining thread; handing over draining orders the accesses
+		private long offset;
+		private volatile boolean closed;
+		// Set on overflow until the next drain hangs up
+		private volatile boolean evicted;
+
+		Subscriber(SseEmitter emitter, long offset) {
+			this.emitter = emitter;
+			this.offset = offset;
+		}
+
+		void offer(EmployeeChangeBatch batch) {
+			if (closed) {
+				return;
+			}
+			if (!pending.offer(batch)) {
+				// Too far behind to keep buffering; the drain hangs up and the client resumes from the outbox
+				evicted = true;
+				closed = true;
+				subscribers.remove(this);
+			}
+			schedule();
+		}
+
+		private void schedule() {
+			if (draining.compareAndSet(false, true)) {
+				try {
+					executor.execute(this::drain);
+				} catch (RejectedExecutionException e) {
+					// Shutting down
+					draining.set(false);
+					closed = true;
+					subscribers.remove(this);
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				EmployeeChangeBatch batch;
+				while (!closed && (batch = pending.poll()) != null) {
+					deliver(batch);
+				}
+				if (evicted) {
+					evicted = false;
+					pending.clear();
+					emitter.complete();
+				}
+			} finally {
+				draining.set(false);
+			}
+			// A batch offered, or an eviction, while this drain was finishing found it still running
+			if (evicted || !closed && !pending.isEmpty()) {
+				schedule();
+			}
+		}
+
+		private void deliver(EmployeeChangeBatch batch) {
+			if (offset < batch.afterOffset()) {
+				catchUp(batch.afterOffset());
+			}
+			for (EmployeeChange change : batch.changes()) {
+				if (change.offset() > offset) {
+					send(change);
+				}
+			}
+		}
+
+		private void catchUp(long upTo) {
+			while (!closed && offset < upTo) {
+				List<EmployeeChange> changes = outboxRepository.findChanges(offset, upTo, Limit.of(REPLAY_PAGE_SIZE));
+				if (changes.isEmpty()) {
+					offset = upTo;
+				}
+				changes.forEach(this::send);
+			}
+		}
+
+		// Spring holds the response headers back until the first send; a comment
+		// commits them at once, so the client sees 200 before any change arrives.
+		// Sent before the first drain is scheduled, and buffered by the emitter until the request returns
+		void open() {
+			send(SseEmitter.event().comment("after " + offset));
+		}
+
+		private void send(EmployeeChange change) {
+			if (send(SseEmitter.event().id(Long.toString(change.offset())).name(change.type())
+					.data(change, MediaType.APPLICATION_JSON))) {
+				offset = change.offset();
+			}
+		}
+
+		private boolean send(SseEmitter.SseEventBuilder event) {
+			if (closed) {
+				return false;
+			}
+			try {
+				emitter.send(event);
+				return true;
+			} catch (IOException | IllegalStateException e) {
+				// Client went away or the emitter already completed; it resumes by reconnecting
+				closed = true;
+				subscribers.remove(this);
+				return false;
+			}
+		}
+	}
+}
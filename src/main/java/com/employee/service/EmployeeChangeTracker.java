@@ -0,0 +1,53 @@
+package com.employee.service;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.entity.EmployeeChangeCounter;
+import com.employee.repository.EmployeeChangeCounterRepository;
+
+/**
+ * Keeps the {@link EmployeeChangeCounter} row in step with the employees
+ * table. The counter is bumped as the last statement of the writing
+ * transaction, just before it commits, so writers hold its row lock only for
+ * the commit rather than for their whole transaction, and a rolled back
+ * write takes its bump with it. Bumping after the commit instead would need
+ * a second pooled connection while the first is still held, which starves
+ * the pool once every connection belongs to a waiting writer.
+ */
+@Service
+public class EmployeeChangeTracker {
+
+	private final EmployeeChangeCounterRepository counterRepository;
+	private final TransactionTemplate bumpTransaction;
+
+	public EmployeeChangeTracker(EmployeeChangeCounterRepository counterRepository, PlatformTransactionManager transactionManager) {
+		this.counterRepository = counterRepository;
+		// Joins the writing transaction; only a write made outside one gets a transaction of its own
+		this.bumpTransaction = new TransactionTemplate(transactionManager);
+	}
+
+	// A failed bump fails the commit, so the ETag never misses a committed write
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		bumpTransaction.executeWithoutResult(status -> {
+			Instant now = Instant.now();
+			if (counterRepository.increment(now) == 0) {
+				// Normally inserted by db/indexes-*.sql at startup
+				counterRepository.save(new EmployeeChangeCounter(1, now));
+			}
+		});
+	}
+
+	/**
+	 * The current version; before the first write it is 0 as of the epoch.
+	 */
+	public EmployeeChangeCounter current() {
+		return counterRepository.findById(EmployeeChangeCounter.ID).orElseGet(() -> new EmployeeChangeCounter(0, Instant.EPOCH));
+	}
+}
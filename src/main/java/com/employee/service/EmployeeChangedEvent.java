@@ -0,0 +1,32 @@
+package com.employee.service;
+
+import java.util.List;
+
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeKey;
+
+/**
+ * Published by the write paths of {@link EmployeeService} and
+ * {@link EmployeeBulkIngestService} inside the writing transaction.
+ * {@code keys} is always filled in; {@code employees} carries the saved state
+ * for {@link Type#CREATED} and {@link Type#UPDATED} and is empty for
+ * {@link Type#DELETED}, whose rows are removed in bulk without being loaded.
+ */
+public record EmployeeChangedEvent(Type type, List<Employee> employees, List<EmployeeKey> keys) {
+
+	public enum Type {
+		CREATED, UPDATED, DELETED
+	}
+
+	public static EmployeeChangedEvent saved(Type type, List<Employee> employees) {
+		List<EmployeeKey> keys = employees.stream()
+				.map(employee -> new EmployeeKey(employee.getId(), employee.getEmpid()))
+				.toList();
+		return new EmployeeChangedEvent(type, List.copyOf(employees), keys);
+	}
+
+	public static EmployeeChangedEvent deleted(List<EmployeeKey> keys) {
+		return new EmployeeChangedEvent(Type.DELETED, List.of(), List.copyOf(keys));
+	}
+
+}
@@ -1,12 +1,12 @@
 package com.employee.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import com.employee.entity.Employee;
 
@@ -14,14 +14,33 @@ import jakarta.servlet.http.HttpServletResponse;
 
 
 
+/**
+ * Streams employees into an .xlsx file with a windowed SXSSF workbook: only
+ * the last {@link #ROW_WINDOW} rows stay in memory, older rows are flushed to
+ * a compressed temp file. Column widths are sized once from the first
+ * {@link #WIDTH_SAMPLE_ROWS} rows instead of re-measuring every cell.
+ */
 public class EmployeeExcelExporter {
-    private XSSFWorkbook workbook;
+    private static final int ROW_WINDOW = 100;
+    private static final int WIDTH_SAMPLE_ROWS = 200;
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+    private static final String[] HEADERS = {
+            "Emp Id", "First Name", "DOB", "DOJ", "Salary", "Reports To",
+            "Dept Id", "Rank Id", "Create Date", "Update Date" };
+
+    private final EmployeeSource employees;
+    private SXSSFWorkbook workbook;
     private Sheet sheet;
-    private List<Employee> listEmployees;
+    private CellStyle dataStyle;
+    private int[] columnChars;
+    private int rowCount;
 
     public EmployeeExcelExporter(List<Employee> listEmployees) {
-        this.listEmployees = listEmployees;
-        workbook = new XSSFWorkbook();
+        this(listEmployees::forEach);
+    }
+
+    public EmployeeExcelExporter(EmployeeSource employees) {
+        this.employees = employees;
     }
 
     private void writeHeaderLine() {
@@ -30,69 +49,93 @@ public class EmployeeExcelExporter {
         Row headerRow = sheet.createRow(0);
 
         CellStyle style = workbook.createCellStyle();
-        XSSFFont font = workbook.createFont();
+        Font font = workbook.createFont();
         font.setBold(true);
-        font.setFontHeight(16);
+        font.setFontHeight((short) (16 * 20));
         style.setFont(font);
 
-        createCell(headerRow, 0, "Emp Id", style);
-        createCell(headerRow, 1, "First Name", style);
-        createCell(headerRow, 2, "Full Name", style);
-        createCell(headerRow, 3, "DOB", style);
-        createCell(headerRow, 4, "DOJ", style);
-        createCell(headerRow, 5, "Salary", style);
-        createCell(headerRow, 6, "Reports To", style);
-        createCell(headerRow, 7, "Dept Id", style);
-        createCell(headerRow, 8, "Rank Id", style);
-        createCell(headerRow, 9, "Create Date", style);
-        createCell(headerRow, 10, "Update Date", style);
+        for (int i = 0; i < HEADERS.length; i++) {
+            createCell(headerRow, i, HEADERS[i], style);
+        }
+        rowCount = 1;
     }
 
     private void createCell(Row row, int columnCount, Object value, CellStyle style) {
-        sheet.autoSizeColumn(columnCount);
         Cell cell = row.createCell(columnCount);
+        String text;
         if (value instanceof Integer) {
             cell.setCellValue((Integer) value);
-        } else if (value instanceof Boolean) {
-            cell.setCellValue((Boolean) value);
+            text = value.toString();
+        } else if (value == null) {
+            text = "-";
+            cell.setCellValue(text);
         } else {
-            cell.setCellValue((String) value);
+            text = value.toString();
+            cell.setCellValue(text);
         }
         cell.setCellStyle(style);
-    }
 
-    private void writeDataLines() {
-        int rowCount = 1;
+        if (row.getRowNum() <= WIDTH_SAMPLE_ROWS) {
+            columnChars[columnCount] = Math.max(columnChars[columnCount], text.length());
+        }
+    }
 
-        CellStyle style = workbook.createCellStyle();
-        XSSFFont font = workbook.createFont();
-        font.setFontHeight(14);
-        style.setFont(font);
+    private void writeDataLine(Employee employee) {
+        Row row = sheet.createRow(rowCount++);
+        int columnCount = 0;
+
+        createCell(row, columnCount++, employee.getEmpid(), dataStyle);
+        createCell(row, columnCount++, employee.getFname(), dataStyle);
+        createCell(row, columnCount++, employee.getDob(), dataStyle);
+        createCell(row, columnCount++, employee.getDoj(), dataStyle);
+        createCell(row, columnCount++, employee.getSalary(), dataStyle);
+        createCell(row, columnCount++, employee.getReportsto(), dataStyle);
+        createCell(row, columnCount++, employee.getDeptid(), dataStyle);
+        createCell(row, columnCount++, employee.getRankid(), dataStyle);
+        createCell(row, columnCount++, employee.getCreatedat(), dataStyle);
+        createCell(row, columnCount++, employee.getUpdatedat(), dataStyle);
+    }
 
-        for (Employee employee : listEmployees) {
-            Row row = sheet.createRow(rowCount++);
-            int columnCount = 0;
-
-            createCell(row, columnCount++, employee.getEmpid(), style);
-            createCell(row, columnCount++, employee.getFname(), style);
-            createCell(row, columnCount++, employee.getDob().toString(), style);
-            createCell(row, columnCount++, employee.getDoj().toString(), style);
-            createCell(row, columnCount++, employee.getReportsto() != null ? employee.getReportsto().toString() : "-", style);
-            createCell(row, columnCount++, employee.getDeptid() != null ? employee.getDeptid().toString() : "-", style);
-            createCell(row, columnCount++, employee.getRankid().toString(), style);
+    private void applyColumnWidths() {
+        for (int i = 0; i < columnChars.length; i++) {
+            // Widths are in 1/256ths of a character; pad for the larger header font
+            sheet.setColumnWidth(i, Math.min(MAX_COLUMN_WIDTH, (columnChars[i] + 4) * 256));
         }
     }
 
     public void export(HttpServletResponse response) throws IOException {
-        writeHeaderLine();
-        writeDataLines();
-
         response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
         String headerKey = "Content-Disposition";
         String headerValue = "attachment; filename=employees_" + System.currentTimeMillis() + ".xlsx";
         response.setHeader(headerKey, headerValue);
 
-        workbook.write(response.getOutputStream());
-        workbook.close();
+        export(response.getOutputStream());
+    }
+
+    /**
+     * Writes the workbook to {@code out} and returns the number of employee rows written.
+     */
+    public int export(OutputStream out) throws IOException {
+        workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        columnChars = new int[HEADERS.length];
+        try {
+            writeHeaderLine();
+
+            dataStyle = workbook.createCellStyle();
+            Font font = workbook.createFont();
+            font.setFontHeight((short) (14 * 20));
+            dataStyle.setFont(font);
+
+            employees.forEach(this::writeDataLine);
+            applyColumnWidths();
+
+            workbook.write(out);
+            return rowCount - 1;
+        } finally {
+            // Removes the temp file backing the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
     }
-}
\ No newline at end of file
+}
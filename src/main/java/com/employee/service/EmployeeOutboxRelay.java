@@ -0,0 +1,119 @@
+package com.employee.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.employee.repository.EmployeeOutboxRepository;
+import com.employee.response.EmployeeChange;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Polls the employee outbox and hands new entries to every
+ * {@link EmployeeChangeSink} in offset order, keeping one offset per sink.
+ *
+ * Offsets come from a sequence, so a transaction that took a lower offset can
+ * commit after one that took a higher offset. When the next entry is not the
+ * next offset the relay waits for the missing one, up to app.outbox.gap-timeout
+ * after the later entry was written, and then treats it as rolled back.
+ */
+@Service
+public class EmployeeOutboxRelay {
+
+	private static final Logger log = LoggerFactory.getLogger(EmployeeOutboxRelay.class);
+
+	private final EmployeeOutboxRepository outboxRepository;
+	private final List<EmployeeChangeSink> sinks;
+	private final int batchSize;
+	private final Duration gapTimeout;
+	private final Duration retention;
+	private final Clock clock;
+
+	// Per sink, in the order of sinks; null until the first poll
+	private long[] offsets;
+
+	@Autowired
+	public EmployeeOutboxRelay(EmployeeOutboxRepository outboxRepository, List<EmployeeChangeSink> sinks,
+			@Value("${app.outbox.batch-size:500}") int batchSize,
+			@Value("${app.outbox.gap-timeout:PT10S}") Duration gapTimeout,
+			@Value("${app.outbox.retention:P7D}") Duration retention) {
+		this(outboxRepository, sinks, batchSize, gapTimeout, retention, Clock.systemUTC());
+	}
+
+	EmployeeOutboxRelay(EmployeeOutboxRepository outboxRepository, List<EmployeeChangeSink> sinks, int batchSize,
+			Duration gapTimeout, Duration retention, Clock clock) {
+		this.outboxRepository = outboxRepository;
+		this.sinks = List.copyOf(sinks);
+		this.batchSize = batchSize;
+		this.gapTimeout = gapTimeout;
+		this.retention = retention;
+		this.clock = clock;
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+	public synchronized void poll() {
+		if (sinks.isEmpty()) {
+			return;
+		}
+		if (offsets == null) {
+			offsets = sinks.stream().mapToLong(EmployeeChangeSink::startOffset).toArray();
+		}
+		long from = Long.MAX_VALUE;
+		for (long offset : offsets) {
+			from = Math.min(from, offset);
+		}
+		List<EmployeeChange> ready = settled(from, outboxRepository.findChanges(from, Long.MAX_VALUE, Limit.of(batchSize)));
+		if (ready.isEmpty()) {
+			return;
+		}
+		for (int i = 0; i < sinks.size(); i++) {
+			long offset = offsets[i];
+			List<EmployeeChange> pending = ready.stream().filter(change -> change.offset() > offset).toList();
+			if (pending.isEmpty()) {
+				continue;
+			}
+			EmployeeChangeBatch batch = new EmployeeChangeBatch(offset, pending);
+			try {
+				sinks.get(i).publish(batch);
+				offsets[i] = batch.lastOffset();
+			} catch (Exception e) {
+				log.warn("Change sink {} failed; retrying after offset {} on the next poll", sinks.get(i).getClass().getSimpleName(), offset, e);
+			}
+		}
+	}
+
+	// The prefix of entries that can be relayed without skipping a change that may still commit
+	private List<EmployeeChange> settled(long after, List<EmployeeChange> entries) {
+		Instant gapCutoff = clock.instant().minus(gapTimeout);
+		List<EmployeeChange> ready = new ArrayList<>(entries.size());
+		long expected = after + 1;
+		for (EmployeeChange entry : entries) {
+			if (entry.offset() != expected && entry.changedAt().isAfter(gapCutoff)) {
+				break;
+			}
+			ready.add(entry);
+			expected = entry.offset() + 1;
+		}
+		return ready;
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT1H}")
+	@Transactional
+	public void purge() {
+		int purged = outboxRepository.deleteByChangedAtBefore(clock.instant().minus(retention));
+		if (purged > 0) {
+			log.info("Purged {} employee outbox entries older than {}", purged, retention);
+		}
+	}
+}
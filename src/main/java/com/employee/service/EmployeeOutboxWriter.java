@@ -0,0 +1,51 @@
+package com.employee.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeKey;
+import com.employee.entity.EmployeeOutboxEntry;
+import com.employee.repository.EmployeeOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Transactional outbox: turns every {@link EmployeeChangedEvent} into an
+ * {@link EmployeeOutboxEntry}. Like {@link EmployeeChangeTracker} it writes in
+ * the publishing transaction, so the entry commits or rolls back with the write that
+ * published the event and downstream consumers never see a change that did
+ * not happen, nor miss one that did.
+ */
+@Service
+public class EmployeeOutboxWriter {
+
+	private final EmployeeOutboxRepository outboxRepository;
+	private final ObjectMapper objectMapper;
+
+	public EmployeeOutboxWriter(EmployeeOutboxRepository outboxRepository, ObjectMapper objectMapper) {
+		this.outboxRepository = outboxRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	private record Payload(List<EmployeeKey> keys, List<Employee> employees) {
+	}
+
+	@EventListener
+	@Transactional
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		String payload;
+		try {
+			payload = objectMapper.writeValueAsString(new Payload(event.keys(), event.employees()));
+		} catch (JsonProcessingException e) {
+			// Failing the write beats committing it without its change event
+			throw new IllegalStateException("Could not serialize " + event.type() + " event for the outbox", e);
+		}
+		outboxRepository.save(new EmployeeOutboxEntry(event.type().name(), Instant.now(), payload));
+	}
+}
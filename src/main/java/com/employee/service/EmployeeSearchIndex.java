@@ -0,0 +1,385 @@
+package com.employee.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.util.FileSystemUtils;
+
+import com.employee.entity.Employee;
+import com.employee.response.EmployeeSearchHit;
+import com.employee.response.EmployeeSearchResult;
+
+/**
+ * Lucene index over {@code fname}, {@code empid} and {@code deptid}. Every
+ * word of a query must match a name token or the empid, exactly, as a prefix
+ * or within a small edit distance; exact matches rank above prefixes, which
+ * rank above fuzzy ones. {@code deptid} only filters. Hits carry the stored
+ * empid, name and department, so searches never touch the database.
+ *
+ * The index lives on the heap, or in generation directories below
+ * {@code baseDir} when one is given. Updates are visible to searches once
+ * {@link #refresh()} runs. Like {@link OrgChartIndex}, {@link #replaceAll}
+ * builds a complete new generation without blocking searches, replays the
+ * updates recorded since {@link #startRecording()} and then swaps it in.
+ */
+public class EmployeeSearchIndex implements Closeable {
+
+	private static final String ID = "id";
+	private static final String EMPID = "empid";
+	private static final String EMPID_KEY = "empid_key";
+	private static final String FNAME = "fname";
+	private static final String DEPTID = "deptid";
+
+	private static final float EXACT_BOOST = 4f;
+	private static final float PREFIX_BOOST = 2f;
+
+	@FunctionalInterface
+	private interface IndexUpdate {
+		void applyTo(IndexWriter writer) throws IOException;
+	}
+
+	private final Analyzer analyzer = new StandardAnalyzer();
+	private final Path baseDir;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Object journalLock = new Object();
+	private int generations;
+	private Generation current;
+	private List<IndexUpdate> journal;
+
+	public EmployeeSearchIndex(Path baseDir) {
+		this.baseDir = baseDir;
+		this.current = newGeneration();
+	}
+
+	public void putAll(Collection<Employee> employees) {
+		for (Employee employee : employees) {
+			if (employee.getId() != null) {
+				Document document = toDocument(employee);
+				Term id = idTerm(employee.getId());
+				apply(writer -> writer.updateDocument(id, document));
+			}
+		}
+	}
+
+	public void removeAll(Collection<Long> ids) {
+		for (Long id : ids) {
+			Term term = idTerm(id);
+			apply(writer -> writer.deleteDocuments(term));
+		}
+	}
+
+	/**
+	 * Makes updates so far visible to searches. Skipped while a rebuild is
+	 * recording, whose swap publishes them instead.
+	 */
+	public void refresh() {
+		lock.readLock().lock();
+		try {
+			synchronized (journalLock) {
+				if (journal != null) {
+					return;
+				}
+			}
+			current.searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Starts journaling updates so that a following {@link #replaceAll} can
+	 * re-apply the ones its rows may have missed. Call before loading the rows.
+	 */
+	public void startRecording() {
+		synchronized (journalLock) {
+			journal = new ArrayList<>();
+		}
+	}
+
+	public void stopRecording() {
+		synchronized (journalLock) {
+			journal = null;
+		}
+	}
+
+	public void replaceAll(EmployeeSource employees) {
+		Generation rebuilt = newGeneration();
+		try {
+			employees.forEach(employee -> {
+				try {
+					rebuilt.writer.addDocument(toDocument(employee));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (RuntimeException e) {
+			rebuilt.close();
+			throw e;
+		}
+
+		Generation replaced;
+		lock.writeLock().lock();
+		try {
+			synchronized (journalLock) {
+				if (journal != null) {
+					for (IndexUpdate update : journal) {
+						update.applyTo(rebuilt.writer);
+					}
+					journal = null;
+				}
+			}
+			rebuilt.searcherManager.maybeRefresh();
+			replaced = current;
+			current = rebuilt;
+		} catch (IOException e) {
+			rebuilt.close();
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		// Searches only run under the read lock, so nothing can still be using it
+		replaced.close();
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			IndexSearcher searcher = current.searcherManager.acquire();
+			try {
+				return searcher.getIndexReader().numDocs();
+			} finally {
+				current.searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Ranked matches for the words in {@code text}, optionally limited to one
+	 * department. Returns an empty page when {@code text} has no words.
+	 */
+	public EmployeeSearchResult search(String text, Integer deptid, int page, int size) {
+		Query query = buildQuery(text, deptid);
+		if (query == null) {
+			return new EmployeeSearchResult(List.of(), 0, true, page, size);
+		}
+		lock.readLock().lock();
+		try {
+			IndexSearcher searcher = current.searcherManager.acquire();
+			try {
+				TopDocs top = searcher.search(query, (page + 1) * size);
+				long total = top.totalHits.value;
+				boolean totalExact = top.totalHits.relation == TotalHits.Relation.EQUAL_TO;
+				StoredFields storedFields = searcher.storedFields();
+				List<EmployeeSearchHit> items = new ArrayList<>(size);
+				for (int i = page * size; i < top.scoreDocs.length; i++) {
+					ScoreDoc hit = top.scoreDocs[i];
+					Document document = storedFields.document(hit.doc);
+					IndexableField deptidField = document.getField(DEPTID);
+					Integer dept = deptidField == null ? null : deptidField.numericValue().intValue();
+					items.add(new EmployeeSearchHit(document.get(EMPID), document.get(FNAME), dept, hit.score));
+				}
+				return new EmployeeSearchResult(items, total, totalExact, page, size);
+			} finally {
+				current.searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		lock.writeLock().lock();
+		try {
+			current.close();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private Query buildQuery(String text, Integer deptid) {
+		List<String> words = analyze(text);
+		if (words.isEmpty()) {
+			return null;
+		}
+		BooleanQuery.Builder query = new BooleanQuery.Builder();
+		for (String word : words) {
+			query.add(wordQuery(word), Occur.MUST);
+		}
+		if (deptid != null) {
+			query.add(IntPoint.newExactQuery(DEPTID, deptid), Occur.FILTER);
+		}
+		return query.build();
+	}
+
+	private static Query wordQuery(String word) {
+		BooleanQuery.Builder alternatives = new BooleanQuery.Builder()
+				.add(new BoostQuery(new TermQuery(new Term(FNAME, word)), EXACT_BOOST), Occur.SHOULD)
+				.add(new BoostQuery(new PrefixQuery(new Term(FNAME, word)), PREFIX_BOOST), Occur.SHOULD)
+				.add(new BoostQuery(new TermQuery(new Term(EMPID_KEY, word)), EXACT_BOOST), Occur.SHOULD)
+				.add(new BoostQuery(new PrefixQuery(new Term(EMPID_KEY, word)), PREFIX_BOOST), Occur.SHOULD);
+		int maxEdits = maxEdits(word);
+		if (maxEdits > 0) {
+			// The first letter has to match, which keeps the automaton small
+			alternatives.add(new FuzzyQuery(new Term(FNAME, word), maxEdits, 1), Occur.SHOULD);
+		}
+		return alternatives.build();
+	}
+
+	// Short words allow fewer typos, otherwise "al" would match half the names
+	private static int maxEdits(String word) {
+		if (word.length() < 3) {
+			return 0;
+		}
+		return word.length() < 6 ? 1 : 2;
+	}
+
+	private List<String> analyze(String text) {
+		List<String> words = new ArrayList<>();
+		if (text == null) {
+			return words;
+		}
+		try (TokenStream tokens = analyzer.tokenStream(FNAME, text)) {
+			CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+			tokens.reset();
+			while (tokens.incrementToken()) {
+				words.add(term.toString());
+			}
+			tokens.end();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return words;
+	}
+
+	private static Document toDocument(Employee employee) {
+		Document document = new Document();
+		document.add(new StringField(ID, String.valueOf(employee.getId()), Field.Store.NO));
+		if (employee.getEmpid() != null) {
+			document.add(new StoredField(EMPID, employee.getEmpid()));
+			document.add(new StringField(EMPID_KEY, employee.getEmpid().toLowerCase(Locale.ROOT), Field.Store.NO));
+		}
+		if (employee.getFname() != null) {
+			document.add(new TextField(FNAME, employee.getFname(), Field.Store.YES));
+		}
+		if (employee.getDeptid() != null) {
+			document.add(new IntPoint(DEPTID, employee.getDeptid()));
+			document.add(new StoredField(DEPTID, employee.getDeptid()));
+		}
+		return document;
+	}
+
+	private static Term idTerm(Long id) {
+		return new Term(ID, String.valueOf(id));
+	}
+
+	private void apply(IndexUpdate update) {
+		lock.readLock().lock();
+		try {
+			synchronized (journalLock) {
+				if (journal != null) {
+					journal.add(update);
+				}
+			}
+			update.applyTo(current.writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private synchronized Generation newGeneration() {
+		try {
+			if (baseDir == null) {
+				return new Generation(new ByteBuffersDirectory(), null, analyzer);
+			}
+			Path path = baseDir.resolve("generation-" + System.currentTimeMillis() + "-" + generations++);
+			Files.createDirectories(path);
+			return new Generation(FSDirectory.open(path), path, analyzer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * One complete index. Nothing is committed: the index is rebuilt from the
+	 * database at startup, so its files are scratch space and deleted on close.
+	 */
+	private static final class Generation {
+
+		final Directory directory;
+		final Path path;
+		final IndexWriter writer;
+		final SearcherManager searcherManager;
+
+		Generation(Directory directory, Path path, Analyzer analyzer) throws IOException {
+			this.directory = directory;
+			this.path = path;
+			this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+					.setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+			this.searcherManager = new SearcherManager(writer, null);
+		}
+
+		void close() {
+			try {
+				searcherManager.close();
+				writer.rollback();
+				directory.close();
+				if (path != null) {
+					FileSystemUtils.deleteRecursively(path);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.employee.service;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.employee.entity.EmployeeKey;
+import com.employee.response.EmployeeSearchResult;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Full-text employee search backed by an {@link EmployeeSearchIndex}. The
+ * index is built from the table at startup and kept current from
+ * {@link EmployeeChangedEvent}s once their transaction commits.
+ *
+ * Writes made by other application instances or directly in the database only
+ * show up after the next periodic rebuild ({@code app.search.refresh-interval}).
+ */
+@Service
+public class EmployeeSearchService implements SmartInitializingSingleton {
+
+	private static final Logger log = LoggerFactory.getLogger(EmployeeSearchService.class);
+
+	private final EmployeeService employeeService;
+	private final EmployeeSearchIndex index;
+	private final int maxResults;
+
+	public EmployeeSearchService(EmployeeService employeeService,
+			@Value("${app.search.index-dir:}") String indexDir,
+			@Value("${app.search.max-results:10000}") int maxResults) {
+		this.employeeService = employeeService;
+		this.index = new EmployeeSearchIndex(indexDir.isBlank() ? null : Path.of(indexDir));
+		this.maxResults = maxResults;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		reload();
+	}
+
+	@Scheduled(fixedDelayString = "${app.search.refresh-interval:PT15M}", initialDelayString = "${app.search.refresh-interval:PT15M}")
+	public synchronized void reload() {
+		long start = System.nanoTime();
+		index.startRecording();
+		try {
+			index.replaceAll(employeeService::forEachEmployee);
+		} catch (RuntimeException e) {
+			index.stopRecording();
+			throw e;
+		}
+		log.info("Search index built with {} employees in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (event.type() == EmployeeChangedEvent.Type.DELETED) {
+			index.removeAll(event.keys().stream().map(EmployeeKey::id).toList());
+		} else {
+			index.putAll(event.employees());
+		}
+		index.refresh();
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the page reaches past {@code app.search.max-results}
+	 */
+	public EmployeeSearchResult search(String text, Integer deptid, int page, int size) {
+		if ((long) (page + 1) * size > maxResults) {
+			throw new IllegalArgumentException("Only the first " + maxResults + " results can be paged through");
+		}
+		return index.search(text, deptid, page, size);
+	}
+
+	@PreDestroy
+	public void close() {
+		index.close();
+	}
+
+}
@@ -1,10 +1,15 @@
 package com.employee.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.springframework.http.ResponseEntity;
 
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeArchiveCriteria;
+import com.employee.entity.EmployeeFilter;
+import com.employee.response.EmployeePage;
 import com.employee.response.StandardResponse;
 
 public interface EmployeeService {
@@ -12,15 +17,34 @@ public interface EmployeeService {
 	 StandardResponse addEmployee(Employee employee);
 	 
 	 void updateEmployeeDetails(String empid, Employee updatedEmployee);
+	 
+	 // expectedVersion null skips the optimistic check; returns null for a replayed client_reqid
+	 Employee updateEmployeeDetails(String empid, Employee updatedEmployee, Long expectedVersion);
+	 
+	 Employee patchEmployee(String empid, Map<String, Object> changes, Long expectedVersion);
 	
 	 Employee getEmployeeByEmpId(String empid);
 	 
 	 void deleteEmployeeByFname(String fname);
 	 
+	 int archiveEmployees(EmployeeArchiveCriteria criteria);
+	 
 	 List<Employee> getEmployeesByFname(String fname);
 	 
+	 List<Employee> searchEmployeesByFname(String fname, boolean prefix, int page, int size);
+	 
 	 List<Employee> getEmployeeIdAndFname();
 	 
+	 EmployeePage getEmployeePage(String continuationToken, int size);
+	 
+	 // sort is an EmployeeSortOrder attribute, '-' prefixed for descending
+	 EmployeePage filterEmployees(EmployeeFilter filter, String sort, String continuationToken, int size);
+	 
+	 void forEachEmployee(Consumer<? super Employee> action);
+	 
+	 // fname matches ignoring case; a null fname or deptid does not filter
+	 void forEachEmployee(String fname, Integer deptid, Consumer<? super Employee> action);
+	 
 	 ResponseEntity<?> getEmployeeIdAndFnameAsResponse();
 	 
 	 //xml
@@ -1,31 +1,62 @@
 package com.employee.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.employee.config.CacheConfig;
 import com.employee.entity.Employee;
-import com.employee.entity.EmployeeShadow;
+import com.employee.entity.EmployeeArchiveCriteria;
+import com.employee.entity.EmployeeFilter;
+import com.employee.entity.EmployeeIdName;
+import com.employee.entity.EmployeeKey;
+import com.employee.entity.EmployeeRequestKey;
 import com.employee.exception.EmployeeNotFoundException;
+import com.employee.exception.IdempotencyConflictException;
 import com.employee.repository.EmployeeRepository;
 import com.employee.repository.EmployeeShadowRepo;
+import com.employee.repository.EmployeeSpecifications;
+import com.employee.response.EmployeePage;
 import com.employee.response.HttpResponse;
 import com.employee.response.StandardResponse;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import ch.qos.logback.classic.Logger;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
+// One timer per method, tagged class and method, with a percentile histogram for p99s
+@Timed(value = "employee.service", histogram = true)
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 	
-	private static final Logger log = (Logger) LoggerFactory.getLogger(EmployeeService.class);
+	private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
+
+	private static final int ARCHIVE_IN_CLAUSE_SIZE = 1000;
+
+	// Fields PATCH may change; empid, audit columns, client_reqid and version stay server controlled
+	private static final Set<String> PATCHABLE_FIELDS = Set.of("fname", "dob", "doj", "salary", "reportsto", "deptid", "rankid");
 
 
 	/*
@@ -35,25 +66,84 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final EmployeeShadowRepo   employeeShadowRepository;
+    private final EntityManager        entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdempotencyKeyStore  idempotencyKeyStore;
+    private final ObjectMapper         objectMapper;
+    private final TransactionTemplate  transactionTemplate;
 
     @Autowired
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeShadowRepo employeeShadowRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeShadowRepo employeeShadowRepository,
+            EntityManager entityManager, ApplicationEventPublisher eventPublisher, IdempotencyKeyStore idempotencyKeyStore,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
         this.employeeRepository = employeeRepository;
         this.employeeShadowRepository = employeeShadowRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.idempotencyKeyStore = idempotencyKeyStore;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
    
     
     @SuppressWarnings("null")
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMPID, key = "#employee.empid")
     public StandardResponse addEmployee(Employee employee) {
-        employeeRepository.save(employee);
+        String clientReqid = employee.getClient_reqid();
+        if (clientReqid != null && isReplay(idempotencyKeyStore.find(clientReqid), EmployeeRequestKey.Operation.CREATE, employee.getEmpid())) {
+            return new StandardResponse("success", "Employee details added successfully");
+        }
+        try {
+            // The insert, its request key and its outbox entry commit together; the duplicate-key fallback below runs outside
+            transactionTemplate.executeWithoutResult(status -> {
+                employeeRepository.save(employee);
+                if (clientReqid != null) {
+                    idempotencyKeyStore.record(clientReqid, EmployeeRequestKey.Operation.CREATE, employee.getEmpid());
+                }
+                eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.CREATED, List.of(employee)));
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (clientReqid == null) {
+                throw e;
+            }
+            // A concurrent retry won the race on the key; rows loaded without a key record still hit the unique index
+            EmployeeRequestKey original = idempotencyKeyStore.find(clientReqid);
+            if (original == null) {
+                String originalEmpid = employeeRepository.findEmpidByClientReqid(clientReqid);
+                if (originalEmpid == null) {
+                    throw e;
+                }
+                original = new EmployeeRequestKey(clientReqid, EmployeeRequestKey.Operation.CREATE, originalEmpid, null);
+            }
+            if (!isReplay(original, EmployeeRequestKey.Operation.CREATE, employee.getEmpid())) {
+                throw new IdempotencyConflictException("client_reqid " + clientReqid + " was already used to update employee " + original.getEmpid());
+            }
+            return new StandardResponse("success", "Employee details added successfully");
+        }
         return new StandardResponse("success", "Employee details added successfully");
     }
+
+    // True if the key was already applied by the same operation to this empid; a key applied to another employee is a conflict
+    private boolean isReplay(EmployeeRequestKey original, EmployeeRequestKey.Operation operation, String empid) {
+        if (original == null) {
+            return false;
+        }
+        if (!original.getEmpid().equals(empid)) {
+            throw new IdempotencyConflictException("client_reqid " + original.getClientReqid() + " was already used for employee " + original.getEmpid());
+        }
+        if (original.getOperation() != operation) {
+            return false;
+        }
+        log.info("Skipping replayed request {} for empid: {}", original.getClientReqid(), empid);
+        return true;
+    }
     
 	
            
         
     
     @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_EMPID, key = "#empid", unless = "#result == null")
     public Employee getEmployeeByEmpId(String empid) {
         return employeeRepository.findByEmpid(empid);
     }
@@ -70,28 +160,63 @@ public class EmployeeServiceImpl implements EmployeeService {
     
     @Override
     @Transactional
+    // Deletes are keyed by fname, not empid, so drop every cached entry
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMPID, allEntries = true)
     public void deleteEmployeeByFname(String fname) {
-        Employee employee = employeeRepository.findByfname(fname);
-
-        if (employee != null) {
-            EmployeeShadow shadow = new EmployeeShadow();
-            shadow.setEmpid(employee.getEmpid());
-            shadow.setFname(employee.getFname());
-            shadow.setDob(employee.getDob());
-            shadow.setDoj(employee.getDoj());
-            shadow.setSalary(employee.getSalary());
-            shadow.setReportsto(employee.getReportsto());
-            shadow.setDeptid(employee.getDeptid());
-            shadow.setRankid(employee.getRankid());
-            shadow.setCreatedat(employee.getCreatedat());
-            shadow.setUpdatedat(employee.getUpdatedat());
-            shadow.setClient_reqid(employee.getClient_reqid());
-
-            // Save to shadow table
-            employeeShadowRepository.save(shadow);
-
-            // Delete from employee table
-            employeeRepository.delete(employee);
+        int archived = archiveByFname(fname);
+        log.info("Archived {} employees with fname: {}", archived, fname);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMPID, allEntries = true)
+    public int archiveEmployees(EmployeeArchiveCriteria criteria) {
+        boolean byFname = criteria.getFname() != null;
+        boolean byDeptid = criteria.getDeptid() != null;
+        boolean byEmpids = criteria.getEmpids() != null && !criteria.getEmpids().isEmpty();
+        if ((byFname ? 1 : 0) + (byDeptid ? 1 : 0) + (byEmpids ? 1 : 0) != 1) {
+            throw new IllegalArgumentException("Exactly one of fname, deptid or empids must be given");
+        }
+
+        int archived;
+        if (byFname) {
+            archived = archiveByFname(criteria.getFname());
+        } else if (byDeptid) {
+            archived = archiveKeys(employeeRepository.findKeysByDeptid(criteria.getDeptid()));
+        } else {
+            List<String> empids = criteria.getEmpids();
+            List<EmployeeKey> keys = new ArrayList<>();
+            for (int from = 0; from < empids.size(); from += ARCHIVE_IN_CLAUSE_SIZE) {
+                keys.addAll(employeeRepository.findKeysByEmpids(empids.subList(from, Math.min(from + ARCHIVE_IN_CLAUSE_SIZE, empids.size()))));
+            }
+            archived = archiveKeys(keys);
+        }
+        log.info("Archived {} employees into employee_shadow", archived);
+        return archived;
+    }
+
+    private int archiveByFname(String fname) {
+        return archiveKeys(employeeRepository.findKeysByFname(fname));
+    }
+
+    // INSERT ... SELECT into employee_shadow followed by a DELETE, both set-based and both on the ids read
+    // (and locked) up front, so a row committed meanwhile is never deleted without being archived
+    private int archiveKeys(List<EmployeeKey> keys) {
+        List<Long> ids = keys.stream().map(EmployeeKey::id).toList();
+        int archived = 0;
+        // Keep each IN list well below the driver's bind parameter limit
+        for (int from = 0; from < ids.size(); from += ARCHIVE_IN_CLAUSE_SIZE) {
+            List<Long> slice = ids.subList(from, Math.min(from + ARCHIVE_IN_CLAUSE_SIZE, ids.size()));
+            archived += employeeShadowRepository.archiveByIds(slice);
+            employeeRepository.deleteAllByIds(slice);
+        }
+        publishDeleted(keys);
+        return archived;
+    }
+
+    private void publishDeleted(List<EmployeeKey> keys) {
+        if (!keys.isEmpty()) {
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(keys));
         }
     }
     
@@ -99,29 +224,69 @@ public class EmployeeServiceImpl implements EmployeeService {
   
     @Override
     public ResponseEntity<?> getEmployeeIdAndFnameAsResponse() {
-        List<Employee> empList = employeeRepository.findAll();
+        List<EmployeeIdName> idNames = employeeRepository.findAllIdNames();
 
-        if (empList.isEmpty()) {
+        if (idNames.isEmpty()) {
             throw new EmployeeNotFoundException("Employee details not found");
-        } else {
-            
-            List<Map<String, Object>> map = new ArrayList<>();
+        }
+        return HttpResponse.generateResponse("success", HttpStatus.OK, idNames);
+    }
 
-            for (Employee employee : empList) {
-                Map<String, Object> emp = new HashMap<>();
-                emp.put("empid", employee.getEmpid());
-                emp.put("fname", employee.getFname());
+    @Override
+    public List<Employee> getEmployeeIdAndFname() {
+        return employeeRepository.findAll();
+    }
 
-                map.add(emp);
-            }
+    @Override
+    public EmployeePage getEmployeePage(String continuationToken, int size) {
+        Long afterId = ContinuationToken.decode(continuationToken);
+        List<Employee> items = employeeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size));
+
+        // A short page means we reached the end of the table
+        String nextToken = items.size() < size ? null : ContinuationToken.encode(items.get(items.size() - 1).getId());
+        return new EmployeePage(items, nextToken, items.size());
+    }
 
-            return HttpResponse.generateResponse("success", HttpStatus.OK, map);
+    @Override
+    public EmployeePage filterEmployees(EmployeeFilter filter, String sort, String continuationToken, int size) {
+        EmployeeSortOrder order = EmployeeSortOrder.fromParameter(sort);
+        boolean descending = sort.startsWith("-");
+        Specification<Employee> spec = EmployeeSpecifications.matching(filter);
+        ContinuationToken.Position position = ContinuationToken.decode(continuationToken, sort);
+        if (position != null) {
+            spec = spec.and(EmployeeSpecifications.seekAfter(order.attribute(), order.parse(position.value()), position.lastId(), descending));
         }
+        // One statement: the filter, the seek predicate, ORDER BY and FETCH FIRST, with no count query
+        List<Employee> items = employeeRepository.findBy(spec, query -> query.sortBy(order.sort(descending)).limit(size).all());
+
+        String nextToken = null;
+        if (items.size() == size) {
+            Employee last = items.get(items.size() - 1);
+            nextToken = ContinuationToken.encode(sort, new ContinuationToken.Position(last.getId(), order.valueOf(last)));
+        }
+        return new EmployeePage(items, nextToken, items.size());
     }
 
     @Override
-    public List<Employee> getEmployeeIdAndFname() {
-        return employeeRepository.findAll();
+    @Transactional
+    public void forEachEmployee(Consumer<? super Employee> action) {
+        forEach(employeeRepository.streamAllOrderById(), action);
+    }
+
+    @Override
+    @Transactional
+    public void forEachEmployee(String fname, Integer deptid, Consumer<? super Employee> action) {
+        forEach(employeeRepository.streamByFnameAndDeptidOrderById(fname, deptid), action);
+    }
+
+    private void forEach(Stream<Employee> cursor, Consumer<? super Employee> action) {
+        try (Stream<Employee> employees = cursor) {
+            employees.forEach(employee -> {
+                action.accept(employee);
+                // Keep the persistence context flat while walking the cursor
+                entityManager.detach(employee);
+            });
+        }
     }
     
     
@@ -132,24 +297,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     
     @Override
     public ResponseEntity<?> getEmployeeIdName() {
-        List<Employee> empList = employeeRepository.findAll();
-
-        if (empList.isEmpty()) {
-            throw new EmployeeNotFoundException("Employee details not found");
-        } else {
-            
-            List<Map<String, Object>> map = new ArrayList<>();
-
-            for (Employee employee : empList) {
-                Map<String, Object> emp = new HashMap<>();
-                emp.put("empid", employee.getEmpid());
-                emp.put("fname", employee.getFname());
-
-                map.add(emp);
-            }
-
-            return HttpResponse.generateResponse("success", HttpStatus.OK, map);
-        }
+        return getEmployeeIdAndFnameAsResponse();
     }
 
 
@@ -175,16 +323,25 @@ public class EmployeeServiceImpl implements EmployeeService {
 */ 
     
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMPID, key = "#empid")
     public void updateEmployeeDetails(String empid, Employee updatedEmployee) {
+        updateEmployeeDetails(empid, updatedEmployee, null);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMPID, key = "#empid")
+    public Employee updateEmployeeDetails(String empid, Employee updatedEmployee, Long expectedVersion) {
         log.info("Attempting to update employee with empid: {}", empid);
 
-        try {
-            Employee existingEmployee = employeeRepository.findByEmpid(empid);
-            if (existingEmployee == null) {
-                log.info("Employee not found with empid: {}", empid);
-                throw new RuntimeException("Employee not found with empid: " + empid);
-            }
+        String clientReqid = updatedEmployee.getClient_reqid();
+        EmployeeRequestKey original = clientReqid == null ? null : idempotencyKeyStore.find(clientReqid);
+        if (isReplay(original, EmployeeRequestKey.Operation.UPDATE, empid)) {
+            return null;
+        }
 
+        Employee existingEmployee = findForUpdate(empid, expectedVersion);
+        try {
             existingEmployee.setFname(updatedEmployee.getFname());
             existingEmployee.setDob(updatedEmployee.getDob());
             existingEmployee.setDoj(updatedEmployee.getDoj());
@@ -193,15 +350,63 @@ public class EmployeeServiceImpl implements EmployeeService {
             existingEmployee.setDeptid(updatedEmployee.getDeptid());
             existingEmployee.setRankid(updatedEmployee.getRankid());
             existingEmployee.setUpdatedat(updatedEmployee.getUpdatedat());
+            // The row keeps the key of the POST that created it; a body read back from GET echoes that key,
+            // which is not a new request to remember
+            if (clientReqid != null && original == null && !clientReqid.equals(existingEmployee.getClient_reqid())) {
+                idempotencyKeyStore.record(clientReqid, EmployeeRequestKey.Operation.UPDATE, empid);
+            }
 
-            employeeRepository.save(existingEmployee);
+            // Flushed here so a concurrent writer surfaces as a version conflict from this call, not at commit
+            employeeRepository.saveAndFlush(existingEmployee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.UPDATED, List.of(existingEmployee)));
             log.info("Successfully updated employee with empid: {}", empid);
+            return existingEmployee;
         } catch (Exception e) {
             log.error("Error occurred while updating employee with empid: {}", empid, e);
             throw e;
         }
     }
 
+    /**
+     * Applies only the supplied fields. The entity uses dynamic updates, so the
+     * UPDATE statement lists just the changed columns plus the version check.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_BY_EMPID, key = "#empid")
+    public Employee patchEmployee(String empid, Map<String, Object> changes, Long expectedVersion) {
+        log.info("Attempting to patch fields {} of employee with empid: {}", changes.keySet(), empid);
+        for (String field : changes.keySet()) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be patched: " + field + ", allowed fields are " + PATCHABLE_FIELDS);
+            }
+        }
+
+        Employee existingEmployee = findForUpdate(empid, expectedVersion);
+        try {
+            objectMapper.updateValue(existingEmployee, changes);
+        } catch (JsonMappingException e) {
+            throw new IllegalArgumentException("Invalid field value: " + e.getOriginalMessage(), e);
+        }
+
+        employeeRepository.saveAndFlush(existingEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.UPDATED, List.of(existingEmployee)));
+        log.info("Successfully patched employee with empid: {}", empid);
+        return existingEmployee;
+    }
+
+    private Employee findForUpdate(String empid, Long expectedVersion) {
+        Employee existingEmployee = employeeRepository.findByEmpid(empid);
+        if (existingEmployee == null) {
+            log.info("Employee not found with empid: {}", empid);
+            throw new EmployeeNotFoundException("Employee not found with empid: " + empid);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(existingEmployee.getVersion())) {
+            log.info("Stale version {} for empid: {}, current version is {}", expectedVersion, empid, existingEmployee.getVersion());
+            throw new ObjectOptimisticLockingFailureException(Employee.class, existingEmployee.getId());
+        }
+        return existingEmployee;
+    }
 
     
 	
@@ -219,16 +424,20 @@ public class EmployeeServiceImpl implements EmployeeService {
     
     @Override
     public List<Employee> getEmployeesByFname(String fname) {
-        List<Employee> employees = employeeRepository.findAll();
-        List<Employee> result = new ArrayList<>();
-        
-        for (Employee emp : employees) {
-            if (emp.getFname() != null && emp.getFname().equalsIgnoreCase(fname)) {
-                result.add(emp);
-            }
+        return employeeRepository.findByFnameIgnoreCase(fname);
+    }
+
+    @Override
+    public List<Employee> searchEmployeesByFname(String fname, boolean prefix, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        if (prefix) {
+            return employeeRepository.findByFnameStartingWithIgnoreCase(escapeLike(fname), pageRequest);
         }
-        
-        return result;
+        return employeeRepository.findByFnameIgnoreCase(fname, pageRequest);
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
     
     
@@ -0,0 +1,64 @@
+package com.employee.service;
+
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+import com.employee.entity.Employee;
+
+/**
+ * Orders GET /api/filter may sort by. Each one is a non-null column with id as
+ * the tie breaker, so a page can resume from the last (value, id) it returned.
+ * Nullable columns such as doj are left out because NULLs break the seek.
+ */
+public enum EmployeeSortOrder {
+
+	ID("id", Employee::getId, Long::valueOf),
+	EMPID("empid", Employee::getEmpid, value -> value),
+	FNAME("fname", Employee::getFname, value -> value),
+	SALARY("salary", Employee::getSalary, Integer::valueOf);
+
+	private final String attribute;
+	private final Function<Employee, Comparable<?>> getter;
+	private final Function<String, Comparable<?>> parser;
+
+	EmployeeSortOrder(String attribute, Function<Employee, Comparable<?>> getter, Function<String, Comparable<?>> parser) {
+		this.attribute = attribute;
+		this.getter = getter;
+		this.parser = parser;
+	}
+
+	public String attribute() {
+		return attribute;
+	}
+
+	public Sort sort(boolean descending) {
+		Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+		return this == ID ? Sort.by(direction, "id") : Sort.by(direction, attribute, "id");
+	}
+
+	public String valueOf(Employee employee) {
+		return String.valueOf(getter.apply(employee));
+	}
+
+	public Comparable<?> parse(String value) {
+		try {
+			return parser.apply(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid continuation token", e);
+		}
+	}
+
+	/**
+	 * Accepts an attribute name, optionally prefixed with '-' for descending.
+	 */
+	public static EmployeeSortOrder fromParameter(String sort) {
+		String name = sort.startsWith("-") ? sort.substring(1) : sort;
+		for (EmployeeSortOrder order : values()) {
+			if (order.attribute.equals(name)) {
+				return order;
+			}
+		}
+		throw new IllegalArgumentException("sort must be one of id, empid, fname, salary, optionally prefixed with '-'");
+	}
+}
@@ -0,0 +1,17 @@
+package com.employee.service;
+
+import java.util.function.Consumer;
+
+import com.employee.entity.Employee;
+
+/**
+ * Push-style supply of employees for the exporters. Implementations may read
+ * from an in-memory list or walk a database cursor, see
+ * {@link EmployeeService#forEachEmployee(Consumer)}.
+ */
+@FunctionalInterface
+public interface EmployeeSource {
+
+	void forEach(Consumer<? super Employee> action);
+
+}
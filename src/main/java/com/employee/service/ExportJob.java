@@ -0,0 +1,107 @@
+package com.employee.service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * State of one background export. Mutated only by {@link ExportJobService};
+ * the volatile fields are read by status polls on request threads.
+ */
+public class ExportJob {
+
+	public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+	private final String id;
+	private final String owner;
+	private final ExportFormat format;
+	private final String fname;
+	private final Integer deptid;
+	private final Instant createdAt;
+	private volatile Status status = Status.QUEUED;
+	private volatile Instant finishedAt;
+	private volatile int rowCount;
+	private volatile String error;
+	private volatile Path file;
+
+	public ExportJob(String id, String owner, ExportFormat format, String fname, Integer deptid) {
+		this.id = id;
+		this.owner = owner;
+		this.format = format;
+		this.fname = fname;
+		this.deptid = deptid;
+		this.createdAt = Instant.now();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	@JsonIgnore
+	public String getOwner() {
+		return owner;
+	}
+
+	public ExportFormat getFormat() {
+		return format;
+	}
+
+	public String getFname() {
+		return fname;
+	}
+
+	public Integer getDeptid() {
+		return deptid;
+	}
+
+	public Instant getCreatedAt() {
+		return createdAt;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	void setFinishedAt(Instant finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	void setRowCount(int rowCount) {
+		this.rowCount = rowCount;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	void setError(String error) {
+		this.error = error;
+	}
+
+	@JsonIgnore
+	public Path getFile() {
+		return file;
+	}
+
+	void setFile(Path file) {
+		this.file = file;
+	}
+
+	@JsonIgnore
+	public boolean isFinished() {
+		return status == Status.COMPLETED || status == Status.FAILED;
+	}
+}
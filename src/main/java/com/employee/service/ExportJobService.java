@@ -0,0 +1,200 @@
+package com.employee.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.employee.exception.TooManyExportsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs PDF and Excel exports on a bounded worker pool and keeps the finished
+ * files on local disk until they expire. Each user may only have a limited
+ * number of queued or running exports at a time.
+ */
+@Service
+public class ExportJobService {
+
+	private static final Logger log = LoggerFactory.getLogger(ExportJobService.class);
+
+	private final EmployeeService employeeService;
+	private final Path exportDir;
+	private final int maxJobsPerUser;
+	private final Duration retention;
+	private final ThreadPoolExecutor executor;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> activeJobsByUser = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ExportJobService(EmployeeService employeeService,
+			@Value("${app.export.dir}") String exportDir,
+			@Value("${app.export.workers:2}") int workers,
+			@Value("${app.export.queue-capacity:20}") int queueCapacity,
+			@Value("${app.export.max-jobs-per-user:2}") int maxJobsPerUser,
+			@Value("${app.export.retention:PT1H}") Duration retention,
+			Environment environment, MeterRegistry meterRegistry) throws IOException {
+		this(employeeService, exportDir, workers, queueCapacity, maxJobsPerUser, retention, meterRegistry,
+				Threading.VIRTUAL.isActive(environment)
+						? new VirtualThreadTaskExecutor("export-").getVirtualThreadFactory()
+						: new CustomizableThreadFactory("export-"));
+	}
+
+	ExportJobService(EmployeeService employeeService, String exportDir, int workers, int queueCapacity,
+			int maxJobsPerUser, Duration retention, MeterRegistry meterRegistry) throws IOException {
+		this(employeeService, exportDir, workers, queueCapacity, maxJobsPerUser, retention, meterRegistry,
+				new CustomizableThreadFactory("export-"));
+	}
+
+	// The pool size still bounds concurrent exports on virtual threads; each one holds a database cursor
+	private ExportJobService(EmployeeService employeeService, String exportDir, int workers, int queueCapacity,
+			int maxJobsPerUser, Duration retention, MeterRegistry meterRegistry, ThreadFactory threadFactory) throws IOException {
+		this.employeeService = employeeService;
+		this.exportDir = Files.createDirectories(Paths.get(exportDir));
+		this.maxJobsPerUser = maxJobsPerUser;
+		this.retention = retention;
+		this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+		this.meterRegistry = meterRegistry;
+		meterRegistry.gauge("exports.queued", executor.getQueue(), queue -> queue.size());
+		meterRegistry.gauge("exports.running", executor, pool -> pool.getActiveCount());
+	}
+
+	public ExportJob submit(String owner, ExportFormat format, String fname, Integer deptid) {
+		AtomicInteger active = activeJobsByUser.computeIfAbsent(owner, key -> new AtomicInteger());
+		if (active.incrementAndGet() > maxJobsPerUser) {
+			active.decrementAndGet();
+			throw new TooManyExportsException("At most " + maxJobsPerUser + " exports may be pending per user");
+		}
+
+		ExportJob job = new ExportJob(UUID.randomUUID().toString(), owner, format, fname, deptid);
+		jobs.put(job.getId(), job);
+		try {
+			executor.execute(() -> run(job));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(job.getId());
+			active.decrementAndGet();
+			throw new TooManyExportsException("Export queue is full, please retry later");
+		}
+		log.info("Queued {} export {} for {}", format, job.getId(), owner);
+		return job;
+	}
+
+	/**
+	 * Returns the job only if it belongs to {@code owner}, so ids cannot be probed across users.
+	 */
+	public ExportJob getJob(String id, String owner) {
+		ExportJob job = jobs.get(id);
+		return job != null && job.getOwner().equals(owner) ? job : null;
+	}
+
+	public List<ExportJob> getJobs(String owner) {
+		return jobs.values().stream()
+				.filter(job -> job.getOwner().equals(owner))
+				.sorted(Comparator.comparing(ExportJob::getCreatedAt))
+				.toList();
+	}
+
+	private void run(ExportJob job) {
+		job.setStatus(ExportJob.Status.RUNNING);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		Path partial = exportDir.resolve(job.getId() + ".part");
+		ExportJob.Status outcome = ExportJob.Status.FAILED;
+		try (OutputStream out = Files.newOutputStream(partial)) {
+			EmployeeSource source = filtered(job);
+			int rows = job.getFormat() == ExportFormat.PDF
+					? new PdfGenerator().generate(source, out)
+					: new EmployeeExcelExporter(source).export(out);
+			out.close();
+
+			Path file = exportDir.resolve(job.getId() + "." + job.getFormat().getExtension());
+			Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+			job.setFile(file);
+			job.setRowCount(rows);
+			outcome = ExportJob.Status.COMPLETED;
+			Counter.builder("exports.rows")
+					.description("Rows written by completed exports")
+					.tag("format", job.getFormat().name())
+					.register(meterRegistry)
+					.increment(rows);
+			log.info("Export {} completed with {} rows", job.getId(), rows);
+		} catch (Exception e) {
+			log.error("Export {} failed", job.getId(), e);
+			job.setError(e.getMessage());
+			deleteQuietly(partial);
+		} finally {
+			// Release the user's slot before pollers can observe the terminal status
+			activeJobsByUser.get(job.getOwner()).decrementAndGet();
+			sample.stop(Timer.builder("exports.duration")
+					.description("Time from an export starting to its file being ready or the job failing")
+					.tag("format", job.getFormat().name())
+					.tag("outcome", outcome.name())
+					.register(meterRegistry));
+			job.setFinishedAt(Instant.now());
+			job.setStatus(outcome);
+		}
+	}
+
+	private EmployeeSource filtered(ExportJob job) {
+		return action -> employeeService.forEachEmployee(job.getFname(), job.getDeptid(), action);
+	}
+
+	@Scheduled(fixedDelayString = "${app.export.cleanup-interval:PT5M}")
+	public void removeExpiredJobs() {
+		Instant cutoff = Instant.now().minus(retention);
+		jobs.values().removeIf(job -> {
+			if (job.isFinished() && job.getFinishedAt().isBefore(cutoff)) {
+				if (job.getFile() != null) {
+					deleteQuietly(job.getFile());
+				}
+				log.info("Removed expired export {}", job.getId());
+				return true;
+			}
+			return false;
+		});
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("Could not delete export file {}", file, e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,96 @@
+package com.employee.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.employee.entity.EmployeeRequestKey;
+import com.employee.repository.EmployeeRequestKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * Applied {@code client_reqid}s. The employee_request_keys table is the
+ * record; a bounded map of recently used keys sits in front of it so most
+ * replays are answered without a query. Keys enter the map only once their
+ * write has committed, so a rolled back write is never remembered.
+ */
+@Component
+public class IdempotencyKeyStore {
+
+	private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyStore.class);
+
+	private final EmployeeRequestKeyRepository requestKeyRepository;
+	private final EntityManager entityManager;
+	private final Duration retention;
+	private final Cache<String, EmployeeRequestKey> recentKeys;
+
+	public IdempotencyKeyStore(EmployeeRequestKeyRepository requestKeyRepository, EntityManager entityManager,
+			@Value("${app.idempotency.max-keys:100000}") long maxKeys,
+			@Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+			@Value("${app.idempotency.retention:P30D}") Duration retention) {
+		this.requestKeyRepository = requestKeyRepository;
+		this.entityManager = entityManager;
+		this.retention = retention;
+		this.recentKeys = Caffeine.newBuilder()
+				.maximumSize(maxKeys)
+				.expireAfterWrite(ttl)
+				.build();
+	}
+
+	public EmployeeRequestKey find(String clientReqid) {
+		EmployeeRequestKey key = recentKeys.getIfPresent(clientReqid);
+		if (key == null) {
+			key = requestKeyRepository.findById(clientReqid).orElse(null);
+			if (key != null) {
+				recentKeys.put(clientReqid, key);
+			}
+		}
+		return key;
+	}
+
+	/**
+	 * Records the key in the caller's transaction. Must be called inside the
+	 * write it belongs to; a second write with the same key fails on the
+	 * primary key when that transaction commits.
+	 */
+	public void record(String clientReqid, EmployeeRequestKey.Operation operation, String empid) {
+		EmployeeRequestKey key = new EmployeeRequestKey(clientReqid, operation, empid, Instant.now());
+		// persist rather than save: the id is assigned, and save would look it up first
+		entityManager.persist(key);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					recentKeys.put(clientReqid, key);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Forgets update keys past app.idempotency.retention; no client retries
+	 * that late. Create keys are never purged, so a late POST retry cannot
+	 * make a duplicate employee.
+	 */
+	@Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1H}")
+	@Transactional
+	public void purge() {
+		int purged = requestKeyRepository.deleteByOperationAndCreatedAtBefore(EmployeeRequestKey.Operation.UPDATE,
+				Instant.now().minus(retention));
+		if (purged > 0) {
+			log.info("Purged {} expired update keys", purged);
+		}
+	}
+
+}
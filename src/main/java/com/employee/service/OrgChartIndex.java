@@ -0,0 +1,387 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import com.employee.entity.ReportingLine;
+import com.employee.response.OrgChartNode;
+import com.employee.response.SpanOfControl;
+
+/**
+ * In-memory adjacency index over {@code Employee.reportsto}. Each database id
+ * is given a dense slot on first sight, and slots index primitive arrays:
+ * {@code managerOf[slot]} holds the manager's slot and {@code reportsOf[slot]}
+ * the direct reports, so walks touch no boxed values and no database. Memory
+ * follows the number of employees, not the size of their ids.
+ *
+ * The index mirrors the table, including dangling edges: reports of a deleted
+ * or unknown manager keep pointing at it and simply stop their chain there,
+ * exactly like the recursive queries in {@code EmployeeRepository}. Such a
+ * manager holds a slot only while someone reports to it. Walks stop after
+ * visiting every node once, so a cycle in the data cannot hang a request.
+ *
+ * Readers share a read lock; single-employee updates take the write lock
+ * briefly. {@link #replaceAll(Collection)} builds the new graph without the
+ * lock and replays updates that arrived while the rows were being loaded,
+ * see {@link #startRecording()}.
+ */
+public class OrgChartIndex {
+
+	private static final int NONE = -1;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private Graph graph = new Graph();
+	private List<Consumer<Graph>> journal;
+
+	public void put(Long id, String empid, Integer reportsto) {
+		Long manager = managerId(reportsto);
+		apply(graph -> graph.put(id, empid, manager));
+	}
+
+	public void remove(Long id) {
+		apply(graph -> graph.remove(id));
+	}
+
+	/**
+	 * Starts journaling updates so that a following {@link #replaceAll} can
+	 * re-apply the ones its rows may have missed. Call before loading the rows.
+	 */
+	public void startRecording() {
+		lock.writeLock().lock();
+		try {
+			journal = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void stopRecording() {
+		lock.writeLock().lock();
+		try {
+			journal = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void replaceAll(Collection<ReportingLine> lines) {
+		Graph rebuilt = new Graph();
+		for (ReportingLine line : lines) {
+			rebuilt.put(line.id(), line.empid(), managerId(line.reportsto()));
+		}
+		lock.writeLock().lock();
+		try {
+			if (journal != null) {
+				journal.forEach(update -> update.accept(rebuilt));
+				journal = null;
+			}
+			graph = rebuilt;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return graph.count;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Array slots ever handed out, employees and dangling managers together
+	int slotsUsed() {
+		lock.readLock().lock();
+		try {
+			return graph.slotsUsed;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public boolean contains(String empid) {
+		lock.readLock().lock();
+		try {
+			return graph.idByEmpid.containsKey(empid);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Everyone below {@code empid}, breadth first, up to {@code maxDepth}
+	 * levels down. Returns {@code null} if the employee is not indexed.
+	 */
+	public List<OrgChartNode> reports(String empid, int maxDepth) {
+		lock.readLock().lock();
+		try {
+			Integer root = graph.idByEmpid.get(empid);
+			if (root == null) {
+				return null;
+			}
+			List<OrgChartNode> nodes = new ArrayList<>();
+			graph.walkDown(root, maxDepth, (node, depth) -> nodes.add(new OrgChartNode(graph.empidOf[node], depth)));
+			return nodes;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Managers of {@code empid} from the direct manager to the top. Returns
+	 * {@code null} if the employee is not indexed.
+	 */
+	public List<String> managementChain(String empid) {
+		lock.readLock().lock();
+		try {
+			Integer node = graph.idByEmpid.get(empid);
+			if (node == null) {
+				return null;
+			}
+			List<String> chain = new ArrayList<>();
+			for (int manager = graph.managerAbove(node); manager != NONE && manager != node && chain.size() < graph.count - 1; manager = graph.managerAbove(manager)) {
+				chain.add(graph.empidOf[manager]);
+			}
+			return chain;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Number of managers above {@code empid}, 0 at the top of the chart, or
+	 * -1 if the employee is not indexed.
+	 */
+	public int depth(String empid) {
+		lock.readLock().lock();
+		try {
+			Integer node = graph.idByEmpid.get(empid);
+			if (node == null) {
+				return -1;
+			}
+			int depth = 0;
+			for (int manager = graph.managerAbove(node); manager != NONE && manager != node && depth < graph.count - 1; manager = graph.managerAbove(manager)) {
+				depth++;
+			}
+			return depth;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Direct and total (all levels) reports of {@code empid}, or {@code null}
+	 * if the employee is not indexed.
+	 */
+	public SpanOfControl spanOfControl(String empid) {
+		lock.readLock().lock();
+		try {
+			Integer root = graph.idByEmpid.get(empid);
+			if (root == null) {
+				return null;
+			}
+			int[] total = new int[1];
+			graph.walkDown(root, Integer.MAX_VALUE, (node, depth) -> total[0]++);
+			return new SpanOfControl(graph.liveReports(root), total[0]);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static Long managerId(Integer reportsto) {
+		return reportsto == null || reportsto < 0 ? null : reportsto.longValue();
+	}
+
+	private void apply(Consumer<Graph> update) {
+		lock.writeLock().lock();
+		try {
+			update.accept(graph);
+			if (journal != null) {
+				journal.add(update);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@FunctionalInterface
+	private interface NodeVisitor {
+		void visit(int node, int depth);
+	}
+
+	private static final class Graph {
+
+		private static final int[] NO_REPORTS = new int[0];
+
+		private final Map<Long, Integer> slotById = new HashMap<>();
+		private long[] idOf = new long[0];
+		private int[] managerOf = new int[0];
+		private int[][] reportsOf = new int[0][];
+		private int[] reportCount = new int[0];
+		private String[] empidOf = new String[0];
+		private final Map<String, Integer> idByEmpid = new HashMap<>();
+		private int[] freeSlots = new int[0];
+		private int freeCount;
+		private int slotsUsed;
+		private int count;
+
+		void put(long id, String empid, Long managerId) {
+			int node = slotFor(id);
+			if (empidOf[node] != null) {
+				detach(node);
+				idByEmpid.remove(empidOf[node]);
+			} else {
+				count++;
+			}
+			empidOf[node] = empid;
+			idByEmpid.put(empid, node);
+			int manager = managerId == null ? NONE : slotFor(managerId);
+			managerOf[node] = manager;
+			if (manager != NONE) {
+				attach(manager, node);
+			}
+		}
+
+		void remove(long id) {
+			Integer node = slotById.get(id);
+			if (node == null || empidOf[node] == null) {
+				return;
+			}
+			// Its own reports stay attached: their reportsto still names this id
+			detach(node);
+			idByEmpid.remove(empidOf[node]);
+			empidOf[node] = null;
+			managerOf[node] = NONE;
+			count--;
+			releaseIfUnused(node);
+		}
+
+		int managerAbove(int node) {
+			int manager = managerOf[node];
+			return manager != NONE && empidOf[manager] != null ? manager : NONE;
+		}
+
+		int liveReports(int node) {
+			int live = 0;
+			for (int i = 0; i < reportCount[node]; i++) {
+				if (empidOf[reportsOf[node][i]] != null) {
+					live++;
+				}
+			}
+			return live;
+		}
+
+		void walkDown(int root, int maxDepth, NodeVisitor visitor) {
+			BitSet visited = new BitSet(slotsUsed);
+			visited.set(root);
+			int[] queue = new int[Math.max(16, reportCount[root])];
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = root;
+			int depth = 0;
+			while (head < tail && depth < maxDepth) {
+				depth++;
+				int levelEnd = tail;
+				while (head < levelEnd) {
+					int node = queue[head++];
+					int[] reports = reportsOf[node];
+					for (int i = 0; i < reportCount[node]; i++) {
+						int report = reports[i];
+						if (empidOf[report] == null || visited.get(report)) {
+							continue;
+						}
+						visited.set(report);
+						visitor.visit(report, depth);
+						if (tail == queue.length) {
+							queue = Arrays.copyOf(queue, queue.length * 2);
+						}
+						queue[tail++] = report;
+					}
+				}
+			}
+		}
+
+		private int slotFor(long id) {
+			Integer existing = slotById.get(id);
+			if (existing != null) {
+				return existing;
+			}
+			int slot;
+			if (freeCount > 0) {
+				slot = freeSlots[--freeCount];
+			} else {
+				slot = slotsUsed++;
+				ensureCapacity(slotsUsed);
+			}
+			idOf[slot] = id;
+			slotById.put(id, slot);
+			return slot;
+		}
+
+		// A slot with no employee and no reports left names nothing; hand it back
+		private void releaseIfUnused(int slot) {
+			if (empidOf[slot] != null || reportCount[slot] > 0) {
+				return;
+			}
+			slotById.remove(idOf[slot]);
+			managerOf[slot] = NONE;
+			reportsOf[slot] = NO_REPORTS;
+			if (freeCount == freeSlots.length) {
+				freeSlots = Arrays.copyOf(freeSlots, Math.max(16, freeSlots.length * 2));
+			}
+			freeSlots[freeCount++] = slot;
+		}
+
+		private void attach(int manager, int report) {
+			int[] reports = reportsOf[manager];
+			if (reportCount[manager] == reports.length) {
+				reports = Arrays.copyOf(reports, Math.max(4, reports.length * 2));
+				reportsOf[manager] = reports;
+			}
+			reports[reportCount[manager]++] = report;
+		}
+
+		private void detach(int node) {
+			int manager = managerOf[node];
+			if (manager == NONE) {
+				return;
+			}
+			int[] reports = reportsOf[manager];
+			int last = reportCount[manager] - 1;
+			for (int i = 0; i <= last; i++) {
+				if (reports[i] == node) {
+					reports[i] = reports[last];
+					reportCount[manager] = last;
+					break;
+				}
+			}
+			managerOf[node] = NONE;
+			releaseIfUnused(manager);
+		}
+
+		private void ensureCapacity(int capacity) {
+			if (capacity <= empidOf.length) {
+				return;
+			}
+			int length = Math.max(Math.max(16, capacity), empidOf.length + (empidOf.length >> 1));
+			int oldLength = managerOf.length;
+			idOf = Arrays.copyOf(idOf, length);
+			managerOf = Arrays.copyOf(managerOf, length);
+			Arrays.fill(managerOf, oldLength, length, NONE);
+			reportsOf = Arrays.copyOf(reportsOf, length);
+			Arrays.fill(reportsOf, oldLength, length, NO_REPORTS);
+			reportCount = Arrays.copyOf(reportCount, length);
+			empidOf = Arrays.copyOf(empidOf, length);
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.employee.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeKey;
+import com.employee.exception.EmployeeNotFoundException;
+import com.employee.repository.EmployeeRepository;
+import com.employee.response.OrgChartNode;
+import com.employee.response.SpanOfControl;
+
+/**
+ * Answers org chart questions over {@code Employee.reportsto}, which holds
+ * the manager's id. Lookups by empid are served from an {@link OrgChartIndex}
+ * loaded at startup and kept current from {@link EmployeeChangedEvent}s once
+ * their transaction commits. The detailed variants return full rows through
+ * recursive queries instead.
+ *
+ * Writes made by other application instances or directly in the database only
+ * show up after the next periodic reload ({@code app.orgchart.refresh-interval}).
+ */
+@Service
+public class OrgChartService implements SmartInitializingSingleton {
+
+	private static final Logger log = LoggerFactory.getLogger(OrgChartService.class);
+
+	private final EmployeeRepository employeeRepository;
+	private final OrgChartIndex index = new OrgChartIndex();
+	private final int maxDepth;
+
+	public OrgChartService(EmployeeRepository employeeRepository,
+			@Value("${app.orgchart.max-depth:100}") int maxDepth) {
+		this.employeeRepository = employeeRepository;
+		this.maxDepth = maxDepth;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		reload();
+	}
+
+	@Scheduled(fixedDelayString = "${app.orgchart.refresh-interval:PT15M}", initialDelayString = "${app.orgchart.refresh-interval:PT15M}")
+	public synchronized void reload() {
+		long start = System.nanoTime();
+		index.startRecording();
+		try {
+			index.replaceAll(employeeRepository.findAllReportingLines());
+		} catch (RuntimeException e) {
+			index.stopRecording();
+			throw e;
+		}
+		log.info("Org chart index loaded with {} employees in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	// After commit, so rolled back writes never reach the index; fallbackExecution also applies events
+	// published with no transaction active, which would otherwise be dropped
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (event.type() == EmployeeChangedEvent.Type.DELETED) {
+			for (EmployeeKey key : event.keys()) {
+				index.remove(key.id());
+			}
+			return;
+		}
+		for (Employee employee : event.employees()) {
+			if (employee.getId() != null) {
+				index.put(employee.getId(), employee.getEmpid(), employee.getReportsto());
+			}
+		}
+	}
+
+	public List<OrgChartNode> getReports(String empid, Integer depth) {
+		List<OrgChartNode> reports = index.reports(empid, depth == null ? Integer.MAX_VALUE : depth);
+		return requireFound(reports, empid);
+	}
+
+	public List<Employee> getReportsWithDetails(String empid, Integer depth) {
+		requireIndexed(empid);
+		return employeeRepository.findReportsByEmpid(empid, depth == null ? maxDepth : Math.min(depth, maxDepth));
+	}
+
+	public List<String> getManagementChain(String empid) {
+		return requireFound(index.managementChain(empid), empid);
+	}
+
+	public List<Employee> getManagementChainWithDetails(String empid) {
+		requireIndexed(empid);
+		return employeeRepository.findManagementChainByEmpid(empid, maxDepth);
+	}
+
+	public SpanOfControl getSpanOfControl(String empid) {
+		return requireFound(index.spanOfControl(empid), empid);
+	}
+
+	public int getDepth(String empid) {
+		int depth = index.depth(empid);
+		if (depth < 0) {
+			throw notFound(empid);
+		}
+		return depth;
+	}
+
+	private void requireIndexed(String empid) {
+		if (!index.contains(empid)) {
+			throw notFound(empid);
+		}
+	}
+
+	private static <T> T requireFound(T value, String empid) {
+		if (value == null) {
+			throw notFound(empid);
+		}
+		return value;
+	}
+
+	private static EmployeeNotFoundException notFound(String empid) {
+		return new EmployeeNotFoundException("Employee with empid " + empid + " does not exist in the database");
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.employee.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import com.employee.entity.Employee;
@@ -19,12 +20,29 @@ import com.lowagie.text.pdf.PdfWriter;
 import jakarta.servlet.http.HttpServletResponse;
 
 public class PdfGenerator {
-		 
+
+	// Rows buffered in the table before they are laid out and written to the stream
+	private static final int ROWS_PER_CHUNK = 200;
+
 	public void generate(List < Employee > empList, HttpServletResponse response) throws DocumentException, IOException {
+	    generate(empList::forEach, response);
+	}
+
+	public void generate(EmployeeSource employees, HttpServletResponse response) throws DocumentException, IOException {
+	    generate(employees, response.getOutputStream());
+	}
+
+	/**
+	 * Writes the PDF to {@code out} and returns the number of employee rows written.
+	 * The table is marked incomplete and added to the document every
+	 * {@link #ROWS_PER_CHUNK} rows, so finished pages are flushed as they fill up
+	 * instead of holding the whole table until the end.
+	 */
+	public int generate(EmployeeSource employees, OutputStream out) throws DocumentException, IOException {
 	    // Creating the Object of Document
 	    Document document = new Document(PageSize.A4);
 	    // Getting instance of PdfWriter
-	    PdfWriter.getInstance(document, response.getOutputStream());
+	    PdfWriter.getInstance(document, out);
 	    // Opening the created document to change it
 	    document.open();
 	    // Creating font
@@ -37,12 +55,15 @@ public class PdfGenerator {
 	    paragraph1.setAlignment(Paragraph.ALIGN_CENTER);
 	    // Adding the created paragraph in the document
 	    document.add(paragraph1);
-	    // Creating a table of the 4 columns
+	    // Creating a table of the 3 columns
 	    PdfPTable table = new PdfPTable(3);
 	    // Setting width of the table, its columns and spacing
 	    table.setWidthPercentage(100);
 	    table.setWidths(new int[] {3,3,3});
 	    table.setSpacingBefore(5);
+	    // Repeat the heading on every page and let the table be added in pieces
+	    table.setHeaderRows(1);
+	    table.setComplete(false);
 	    // Create Table Cells for the table header
 	    PdfPCell cell = new PdfPCell();
 	    // Setting the background color and padding of the table cell
@@ -56,24 +77,31 @@ public class PdfGenerator {
 	    // Adding Cell to table
 	    cell.setPhrase(new Phrase("ID", font));
 	    table.addCell(cell);
-    cell.setPhrase(new Phrase("Employee Name", font));
-    table.addCell(cell);
-    cell.setPhrase(new Phrase("Employee ID", font));
-    table.addCell(cell);
-   
-    // Iterating the list of employees
-    for (Employee emp: empList) {
-      // Adding employee id
-      table.addCell(String.valueOf(emp.getId()));
-      // Adding employee name
-      table.addCell(emp.getFname());
-      // Adding employee empid
-      table.addCell(emp.getEmpid());
-     
-    }
-    // Adding the created table to the document
+	    cell.setPhrase(new Phrase("Employee Name", font));
+	    table.addCell(cell);
+	    cell.setPhrase(new Phrase("Employee ID", font));
+	    table.addCell(cell);
+
+	    int[] rowCount = {0};
+	    // Iterating the employees as they are read
+	    employees.forEach(emp -> {
+	      // Adding employee id
+	      table.addCell(String.valueOf(emp.getId()));
+	      // Adding employee name
+	      table.addCell(emp.getFname());
+	      // Adding employee empid
+	      table.addCell(emp.getEmpid());
+
+	      if (++rowCount[0] % ROWS_PER_CHUNK == 0) {
+	        // Lays out the buffered rows and drops them from the table, keeping the header
+	        document.add(table);
+	      }
+	    });
+	    // Adding the remaining rows to the document
+	    table.setComplete(true);
 	    document.add(table);
 	    // Closing the document
 	    document.close();
+	    return rowCount[0];
 	  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.employee.service;
+
+import org.springframework.stereotype.Service;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeReactiveRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read side of {@code /api/reactive}. Results are streamed from the database
+ * as the subscriber requests them; nothing is collected into lists here.
+ */
+@Service
+public class ReactiveEmployeeService {
+
+	private final EmployeeReactiveRepository employeeReactiveRepository;
+
+	public ReactiveEmployeeService(EmployeeReactiveRepository employeeReactiveRepository) {
+		this.employeeReactiveRepository = employeeReactiveRepository;
+	}
+
+	/**
+	 * Employees in id order after the position in {@code continuationToken}
+	 * (the same tokens as {@code GET /api?after=}), all of them when
+	 * {@code limit} is null.
+	 *
+	 * @throws IllegalArgumentException if the token is not valid
+	 */
+	public Flux<Employee> getEmployees(String continuationToken, Integer limit) {
+		// Decoded eagerly so a bad token fails the call instead of the stream
+		Long afterId = ContinuationToken.decode(continuationToken);
+		return employeeReactiveRepository.findByIdGreaterThanOrderById(afterId, limit);
+	}
+
+	public Mono<Employee> getEmployeeByEmpId(String empid) {
+		return employeeReactiveRepository.findByEmpid(empid);
+	}
+
+	public Flux<Employee> searchEmployeesByFname(String fname, boolean prefix) {
+		return prefix
+				? employeeReactiveRepository.findByFnameStartingWithIgnoreCase(EmployeeServiceImpl.escapeLike(fname))
+				: employeeReactiveRepository.findByFnameIgnoreCase(fname);
+	}
+
+}
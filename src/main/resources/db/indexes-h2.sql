@@ -0,0 +1,26 @@
+-- Applied by SchemaIndexInitializer after Hibernate schema update.
+-- H2 has no expression indexes, so this mirrors the PostgreSQL script with plain column indexes.
+
+CREATE INDEX IF NOT EXISTS idx_employees_fname ON employees (fname);
+
+-- Manager lookups for the recursive org chart queries (EmployeeRepository.findReportsByEmpid)
+CREATE INDEX IF NOT EXISTS idx_employees_reportsto ON employees (reportsto);
+
+-- Composite indexes for GET /api/filter (EmployeeSpecifications); id last so keyset pages seek within the index
+CREATE INDEX IF NOT EXISTS idx_employees_dept_rank ON employees (deptid, rankid, id);
+CREATE INDEX IF NOT EXISTS idx_employees_dept_salary ON employees (deptid, salary, id);
+CREATE INDEX IF NOT EXISTS idx_employees_salary ON employees (salary, id);
+CREATE INDEX IF NOT EXISTS idx_employees_doj ON employees (doj);
+
+-- Rows from before Employee.version existed; a null version would make Spring Data treat them as new
+UPDATE employees SET version = 0 WHERE version IS NULL;
+
+-- Purge of expired PUT idempotency keys (IdempotencyKeyStore.purge)
+CREATE INDEX IF NOT EXISTS idx_employee_request_keys_created ON employee_request_keys (operation, created_at);
+
+-- Table change counter behind the ETags of GET /api and the exports (EmployeeChangeTracker)
+INSERT INTO employee_changes (id, version, changed_at) SELECT 1, 0, CURRENT_TIMESTAMP WHERE NOT EXISTS (SELECT 1 FROM employee_changes WHERE id = 1);
+
+-- Key of the POST that created each row. Catches retried POSTs for rows with no employee_request_keys entry,
+-- such as bulk imports and rows created before that table; NULLs are not considered duplicates
+CREATE UNIQUE INDEX IF NOT EXISTS ux_employees_client_reqid ON employees (client_reqid);
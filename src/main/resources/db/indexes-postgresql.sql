@@ -0,0 +1,35 @@
+-- Applied by SchemaIndexInitializer after Hibernate schema update.
+-- Every statement must be safe to re-run on each startup.
+
+-- Case-insensitive exact and prefix search on first name (EmployeeRepository.findByFname*IgnoreCase)
+CREATE INDEX IF NOT EXISTS idx_employees_fname_lower ON employees (lower(fname) text_pattern_ops);
+
+-- Manager lookups for the recursive org chart queries (EmployeeRepository.findReportsByEmpid)
+CREATE INDEX IF NOT EXISTS idx_employees_reportsto ON employees (reportsto);
+
+-- Composite indexes for GET /api/filter (EmployeeSpecifications). Equality columns lead and the
+-- sort column follows with id last, so a filtered keyset page is an index range scan with no sort step.
+CREATE INDEX IF NOT EXISTS idx_employees_dept_rank ON employees (deptid, rankid, id);
+CREATE INDEX IF NOT EXISTS idx_employees_dept_salary ON employees (deptid, salary, id);
+CREATE INDEX IF NOT EXISTS idx_employees_salary ON employees (salary, id);
+CREATE INDEX IF NOT EXISTS idx_employees_doj ON employees (doj);
+
+-- Employee ids moved from IDENTITY to the pooled employees_seq (allocationSize 50). One-off catch-up past ids
+-- from the old identity column: once the sequence is ahead of MAX(id) it is never touched again, so a restart
+-- cannot move it under another instance that is still handing out its block of 50.
+SELECT setval('employees_seq', (SELECT MAX(id) FROM employees) + 50)
+WHERE (SELECT MAX(id) FROM employees) > (SELECT last_value FROM employees_seq);
+
+-- Rows from before Employee.version existed; a null version would make Spring Data treat them as new
+UPDATE employees SET version = 0 WHERE version IS NULL;
+
+-- Purge of expired PUT idempotency keys (IdempotencyKeyStore.purge)
+CREATE INDEX IF NOT EXISTS idx_employee_request_keys_created ON employee_request_keys (operation, created_at);
+
+-- Table change counter behind the ETags of GET /api and the exports (EmployeeChangeTracker)
+INSERT INTO employee_changes (id, version, changed_at) SELECT 1, 0, CURRENT_TIMESTAMP WHERE NOT EXISTS (SELECT 1 FROM employee_changes WHERE id = 1);
+
+-- Key of the POST that created each row. Catches retried POSTs for rows with no employee_request_keys entry,
+-- such as bulk imports and rows created before that table; NULLs are not considered duplicates.
+-- Kept last: it fails while duplicate keys from before this index exist, and the script stops at the first failure.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_employees_client_reqid ON employees (client_reqid);
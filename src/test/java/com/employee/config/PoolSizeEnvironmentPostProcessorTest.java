@@ -0,0 +1,24 @@
+package com.employee.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+class PoolSizeEnvironmentPostProcessorTest {
+
+    @Test
+    void testPoolSizeFollowsCoreCountUnlessSetExplicitly() {
+        StandardEnvironment environment = new StandardEnvironment();
+        new PoolSizeEnvironmentPostProcessor().postProcessEnvironment(environment, null);
+
+        int expected = Runtime.getRuntime().availableProcessors() * 2 + 1;
+        assertEquals(expected, environment.getProperty(PoolSizeEnvironmentPostProcessor.CPU_POOL_SIZE, Integer.class));
+
+        environment.getPropertySources().addFirst(new MapPropertySource("explicit", Map.of(PoolSizeEnvironmentPostProcessor.CPU_POOL_SIZE, 7)));
+        assertEquals(7, environment.getProperty(PoolSizeEnvironmentPostProcessor.CPU_POOL_SIZE, Integer.class));
+    }
+}
@@ -0,0 +1,59 @@
+package com.employee.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class SamplingTurboFilterTest {
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setSampleRate(5);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        logger = context.getLogger("sampled");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+    }
+
+    @Test
+    void testKeepsOneInRateOfMarkedEvents() {
+        for (int i = 0; i < 10; i++) {
+            logger.info(SamplingTurboFilter.SAMPLED, "request {}", i);
+        }
+
+        assertEquals(2, appender.list.size());
+        assertEquals("request 0", appender.list.get(0).getFormattedMessage());
+        assertEquals("request 5", appender.list.get(1).getFormattedMessage());
+    }
+
+    @Test
+    void testUnmarkedWarningsAndDisabledLevelsAreNotSampled() {
+        for (int i = 0; i < 3; i++) {
+            logger.info("unmarked {}", i);
+            logger.warn(SamplingTurboFilter.SAMPLED, "warning {}", i);
+            // Disabled at INFO, and must not use up the next sample
+            logger.debug(SamplingTurboFilter.SAMPLED, "debug {}", i);
+        }
+        logger.info(SamplingTurboFilter.SAMPLED, "first sampled");
+
+        assertEquals(7, appender.list.size());
+        assertEquals("first sampled", appender.list.get(6).getFormattedMessage());
+    }
+}
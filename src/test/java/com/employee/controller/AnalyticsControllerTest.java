@@ -0,0 +1,50 @@
+package com.employee.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.employee.response.EmployeeGroupStatistics;
+import com.employee.service.EmployeeAnalyticsService;
+import com.employee.service.EmployeeAnalyticsService.Grouping;
+
+@WebMvcTest(AnalyticsController.class)
+@SuppressWarnings("null")
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeAnalyticsService analyticsService;
+
+    @Test
+    void testGetDepartmentStatistics() throws Exception {
+        when(analyticsService.summarize(Grouping.DEPARTMENT)).thenReturn(List.of(
+                new EmployeeGroupStatistics(10, 3, 1000, 3000, 2000.0, 2000.0, 2800.0, 100L, 300L, 200.0)));
+
+        mockMvc.perform(get("/api/analytics/departments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].group").value(10))
+                .andExpect(jsonPath("$.data[0].headcount").value(3))
+                .andExpect(jsonPath("$.data[0].p90Salary").value(2800.0))
+                .andExpect(jsonPath("$.data[0].avgTenureDays").value(200.0));
+    }
+
+    @Test
+    void testGetRankStatistics_Empty() throws Exception {
+        when(analyticsService.summarize(Grouping.RANK)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/analytics/ranks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package com.employee.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class BasicAuthValidatorTest {
+
+    private static String basic(String credentials) {
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BasicAuthValidator validator(String... users) {
+        return new BasicAuthValidator("yash", "1234", users, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testLegacyUserAndConfiguredUsers() {
+        BasicAuthValidator validator = validator("alice:{noop}secret", "bob:pa:ss");
+
+        assertEquals("yash", validator.authenticate(basic("yash:1234")));
+        assertEquals("alice", validator.authenticate(basic("alice:secret")));
+        // Only the first colon separates user from password
+        assertEquals("bob", validator.authenticate(basic("bob:pa:ss")));
+    }
+
+    @Test
+    void testHashedPassword() {
+        String hash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("s3cret");
+        BasicAuthValidator validator = validator("ops:" + hash);
+
+        assertEquals("ops", validator.authenticate(basic("ops:s3cret")));
+        assertNull(validator.authenticate(basic("ops:wrong")));
+        // The stored hash itself is not a valid password
+        assertNull(validator.authenticate(basic("ops:" + hash)));
+    }
+
+    @Test
+    void testRejectsWrongOrMalformedCredentials() {
+        BasicAuthValidator validator = validator();
+
+        assertNull(validator.authenticate(null));
+        assertNull(validator.authenticate(basic("yash:12345")));
+        assertNull(validator.authenticate(basic("nobody:1234")));
+        assertNull(validator.authenticate(basic("yash")));
+        assertNull(validator.authenticate("Basic not-base64!"));
+        assertNull(validator.authenticate("Bearer " + basic("yash:1234").substring(6)));
+    }
+
+    @Test
+    void testSchemeIsCaseInsensitiveAndRepeatsStayValid() {
+        BasicAuthValidator validator = validator();
+        String header = basic("yash:1234");
+
+        assertEquals("yash", validator.authenticate(header));
+        assertEquals("yash", validator.authenticate(header));
+        assertEquals("yash", validator.authenticate("basic " + header.substring(6)));
+    }
+
+    @Test
+    void testRejectsMalformedUserEntry() {
+        assertThrows(IllegalArgumentException.class, () -> validator("no-password"));
+    }
+}
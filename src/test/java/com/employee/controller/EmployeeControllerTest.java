@@ -1,32 +1,61 @@
 package com.employee.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.employee.config.AuthConfig;
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeChangeCounter;
+import com.employee.entity.EmployeeArchiveCriteria;
+import com.employee.entity.EmployeeIdName;
 import com.employee.exception.EmployeeNotFoundException;
+import com.employee.response.HttpResponse;
+import com.employee.response.BulkIngestResponse;
+import com.employee.response.EmployeeColumns;
+import com.employee.response.EmployeePage;
+import com.employee.response.EmployeeSearchHit;
+import com.employee.response.EmployeeSearchResult;
 import com.employee.response.StandardResponse;
+import com.employee.service.EmployeeBulkIngestService;
+import com.employee.service.EmployeeChangeTracker;
+import com.employee.service.EmployeeSearchService;
 import com.employee.service.EmployeeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 @WebMvcTest(EmployeeController.class)
+@Import({ BasicAuthValidator.class, AuthConfig.class })
 @SuppressWarnings("null")
 class EmployeeControllerTest {
 
@@ -36,6 +65,15 @@ class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeBulkIngestService bulkIngestService;
+
+    @MockBean
+    private EmployeeSearchService employeeSearchService;
+
+    @MockBean
+    private EmployeeChangeTracker changeTracker;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -48,6 +86,7 @@ class EmployeeControllerTest {
         testEmployee.setEmpid("EMP001");
         testEmployee.setFname("John");
         testEmployee.setSalary(50000);
+        when(changeTracker.current()).thenReturn(new EmployeeChangeCounter(42, Instant.parse("2024-05-01T10:00:00Z")));
 
         // Create Basic Auth header with username: yash, password: 1234
         authHeader = "Basic " + Base64.getEncoder().encodeToString("yash:1234".getBytes());
@@ -76,6 +115,65 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.message").value("Invalid credentials"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBulkAddEmployees_JsonArray() throws Exception {
+        List<String> seen = new ArrayList<>();
+        when(bulkIngestService.ingest(any(Iterator.class))).thenAnswer(invocation -> {
+            Iterator<Employee> rows = invocation.getArgument(0);
+            rows.forEachRemaining(employee -> seen.add(employee.getEmpid()));
+            BulkIngestResponse result = new BulkIngestResponse();
+            result.setReceived(seen.size());
+            result.setInserted(seen.size());
+            return result;
+        });
+
+        mockMvc.perform(post("/api/bulk")
+                .header("Authorization", authHeader)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"empid\":\"EMP001\",\"fname\":\"John\"},{\"empid\":\"EMP002\",\"fname\":\"Jane\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        assertEquals(List.of("EMP001", "EMP002"), seen);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBulkAddEmployees_NdjsonWithFailures() throws Exception {
+        when(bulkIngestService.ingest(any(Iterator.class))).thenAnswer(invocation -> {
+            Iterator<Employee> rows = invocation.getArgument(0);
+            BulkIngestResponse result = new BulkIngestResponse();
+            int row = 0;
+            while (rows.hasNext()) {
+                rows.next();
+                row++;
+            }
+            result.setReceived(row);
+            result.setInserted(row - 1);
+            result.addFailure(1, "X", "empid: Employee ID must be between 3 and 20 characters");
+            return result;
+        });
+
+        mockMvc.perform(post("/api/bulk")
+                .header("Authorization", authHeader)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"empid\":\"EMP001\",\"fname\":\"John\"}\n{\"empid\":\"X\",\"fname\":\"Jane\"}\n"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.failures[0].row").value(1));
+    }
+
+    @Test
+    void testBulkAddEmployees_Unauthorized() throws Exception {
+        mockMvc.perform(post("/api/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
     @Test
     void testGetEmployeeIdAndName_Success() throws Exception {
         List<Employee> employees = new ArrayList<>();
@@ -89,6 +187,129 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].fname").value("John"));
     }
 
+    @Test
+    void testGetEmployeePage_Success() throws Exception {
+        when(employeeService.getEmployeePage(eq(null), eq(1)))
+                .thenReturn(new EmployeePage(List.of(testEmployee), "next", 1));
+
+        mockMvc.perform(get("/api").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].empid").value("EMP001"))
+                .andExpect(jsonPath("$.nextToken").value("next"))
+                .andExpect(jsonPath("$.size").value(1));
+    }
+
+    @Test
+    void testGetEmployeePage_InvalidToken() throws Exception {
+        when(employeeService.getEmployeePage(eq("garbage"), eq(100)))
+                .thenThrow(new IllegalArgumentException("Invalid continuation token"));
+
+        mockMvc.perform(get("/api").param("after", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testFilterEmployees_BindsCriteria() throws Exception {
+        when(employeeService.filterEmployees(argThat(filter -> filter.getDeptid().equals(List.of(10, 20))
+                && filter.getMinSalary() == 50000 && LocalDate.of(2020, 1, 1).equals(filter.getDojFrom())),
+                eq("-salary"), eq("tok"), eq(50)))
+                .thenReturn(new EmployeePage(List.of(testEmployee), "next", 1));
+
+        mockMvc.perform(get("/api/filter").param("deptid", "10", "20").param("minSalary", "50000")
+                .param("dojFrom", "2020-01-01").param("sort", "-salary").param("after", "tok").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].empid").value("EMP001"))
+                .andExpect(jsonPath("$.nextToken").value("next"));
+    }
+
+    @Test
+    void testFilterEmployees_InvalidSort() throws Exception {
+        when(employeeService.filterEmployees(any(), eq("doj"), isNull(), eq(100)))
+                .thenThrow(new IllegalArgumentException("sort must be one of id, empid, fname, salary"));
+
+        mockMvc.perform(get("/api/filter").param("sort", "doj"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testGetEmployeePage_SizeOutOfRange() throws Exception {
+        mockMvc.perform(get("/api").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testGetEmployeeColumns_IsPaged() throws Exception {
+        Employee second = new Employee();
+        second.setEmpid("EMP002");
+        second.setFname("Jane");
+        when(employeeService.getEmployeePage(eq(null), eq(100))).thenReturn(new EmployeePage(List.of(testEmployee, second), "next-token", 2));
+
+        mockMvc.perform(get("/api").accept(EmployeeColumns.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EmployeeColumns.MEDIA_TYPE))
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.nextToken").value("next-token"))
+                .andExpect(jsonPath("$.empid[1]").value("EMP002"))
+                .andExpect(jsonPath("$.fname[0]").value("John"));
+    }
+
+    @Test
+    void testGetEmployeeColumns_RejectsOversizedPage() throws Exception {
+        mockMvc.perform(get("/api?size=100000").accept(EmployeeColumns.MEDIA_TYPE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testGetAllEmployees_Smile() throws Exception {
+        when(employeeService.getEmployeeIdAndFname()).thenReturn(List.of(testEmployee));
+
+        byte[] body = mockMvc.perform(get("/api").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Employee[] decoded = new ObjectMapper(new SmileFactory()).readValue(body, Employee[].class);
+        assertEquals("EMP001", decoded[0].getEmpid());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamEmployees_Ndjson() throws Exception {
+        Employee second = new Employee();
+        second.setEmpid("EMP002");
+        second.setFname("Jane");
+        doAnswer(invocation -> {
+            Consumer<Employee> action = invocation.getArgument(0);
+            action.accept(testEmployee);
+            action.accept(second);
+            return null;
+        }).when(employeeService).forEachEmployee(any(Consumer.class));
+
+        String body = mockMvc.perform(get("/api").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("EMP002", objectMapper.readTree(lines[1]).get("empid").asText());
+    }
+
+    @Test
+    void testGetEmployeeIdNames_Success() throws Exception {
+        when(employeeService.getEmployeeIdAndFnameAsResponse()).thenAnswer(invocation ->
+                HttpResponse.generateResponse("success", HttpStatus.OK, List.of(new EmployeeIdName("EMP001", "John"))));
+
+        mockMvc.perform(get("/api/id-names"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].empid").value("EMP001"))
+                .andExpect(jsonPath("$.data[0].fname").value("John"));
+    }
+
     @Test
     void testGetEmployeeByEmpId_Found() throws Exception {
         when(employeeService.getEmployeeByEmpId("EMP001")).thenReturn(testEmployee);
@@ -99,6 +320,41 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.fname").value("John"));
     }
 
+    @Test
+    void testGetEmployeeByEmpId_NotModified() throws Exception {
+        testEmployee.setVersion(3L);
+        when(employeeService.getEmployeeByEmpId("EMP001")).thenReturn(testEmployee);
+
+        mockMvc.perform(get("/api/EMP001").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/EMP001").header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetAllEmployees_NotModifiedSkipsQuery() throws Exception {
+        mockMvc.perform(get("/api").header("If-None-Match", "W/\"42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"42\""));
+        mockMvc.perform(get("/api/export-to-excel").header("If-Modified-Since", "Wed, 01 May 2024 10:00:00 GMT"))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testGetAllEmployees_ChangedTableSendsBody() throws Exception {
+        when(employeeService.getEmployeeIdAndFname()).thenReturn(List.of(testEmployee));
+
+        mockMvc.perform(get("/api").header("If-None-Match", "W/\"41\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"42\""))
+                .andExpect(header().string("Last-Modified", "Wed, 01 May 2024 10:00:00 GMT"))
+                .andExpect(jsonPath("$[0].empid").value("EMP001"));
+    }
+
     @Test
     void testGetEmployeeByEmpId_NotFound() throws Exception {
         when(employeeService.getEmployeeByEmpId("EMP999")).thenReturn(null);
@@ -120,6 +376,15 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].fname").value("John"));
     }
 
+    @Test
+    void testSearchByFirstName_PrefixPaged() throws Exception {
+        when(employeeService.searchEmployeesByFname("Jo", true, 2, 10)).thenReturn(List.of(testEmployee));
+
+        mockMvc.perform(get("/api/search/Jo").param("prefix", "true").param("page", "2").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].fname").value("John"));
+    }
+
     @Test
     void testSearchByFirstName_NotFound() throws Exception {
         when(employeeService.getEmployeesByFname("Unknown")).thenReturn(new ArrayList<>());
@@ -129,22 +394,134 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.status").value("error"));
     }
 
+    @Test
+    void testFullTextSearch_Ranked() throws Exception {
+        EmployeeSearchResult result = new EmployeeSearchResult(
+                List.of(new EmployeeSearchHit("EMP001", "John", 10, 4.5f)), 1, true, 0, 20);
+        when(employeeSearchService.search("jhon", 10, 0, 20)).thenReturn(result);
+
+        mockMvc.perform(get("/api/search").param("q", "jhon").param("deptid", "10").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.items[0].empid").value("EMP001"))
+                .andExpect(jsonPath("$.items[0].score").value(4.5));
+    }
+
+    @Test
+    void testFullTextSearch_InvalidRequest() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        when(employeeSearchService.search("john", null, 500, 100))
+                .thenThrow(new IllegalArgumentException("Only the first 10000 results can be paged through"));
+        mockMvc.perform(get("/api/search").param("q", "john").param("page", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Only the first 10000 results can be paged through"));
+    }
+
+    @Test
+    void testGetEmployeeByEmpId_ETag() throws Exception {
+        testEmployee.setVersion(7L);
+        when(employeeService.getEmployeeByEmpId("EMP001")).thenReturn(testEmployee);
+
+        mockMvc.perform(get("/api/EMP001"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(jsonPath("$.version").value(7));
+    }
+
     @Test
     void testUpdateEmployee_Success() throws Exception {
-        doNothing().when(employeeService).updateEmployeeDetails(anyString(), any(Employee.class));
+        testEmployee.setVersion(1L);
+        when(employeeService.updateEmployeeDetails(anyString(), any(Employee.class), isNull())).thenReturn(testEmployee);
 
         mockMvc.perform(put("/api")
                 .header("Authorization", authHeader)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(testEmployee)))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
                 .andExpect(jsonPath("$.status").value("success"));
     }
 
+    @Test
+    void testUpdateEmployee_IfMatchPassesVersion() throws Exception {
+        testEmployee.setVersion(4L);
+        when(employeeService.updateEmployeeDetails(eq("EMP001"), any(Employee.class), eq(3L))).thenReturn(testEmployee);
+
+        mockMvc.perform(put("/api")
+                .header("Authorization", authHeader)
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testEmployee)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void testUpdateEmployee_StaleIfMatch() throws Exception {
+        when(employeeService.updateEmployeeDetails(eq("EMP001"), any(Employee.class), eq(3L)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Employee.class, 1L));
+
+        mockMvc.perform(put("/api")
+                .header("Authorization", authHeader)
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testEmployee)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testUpdateEmployee_MalformedIfMatch() throws Exception {
+        mockMvc.perform(put("/api")
+                .header("Authorization", authHeader)
+                .header("If-Match", "\"abc\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testEmployee)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testPatchEmployee_Success() throws Exception {
+        testEmployee.setSalary(65000);
+        testEmployee.setVersion(2L);
+        when(employeeService.patchEmployee("EMP001", Map.of("salary", 65000), 1L)).thenReturn(testEmployee);
+
+        mockMvc.perform(patch("/api/EMP001")
+                .header("Authorization", authHeader)
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\":65000}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.salary").value(65000));
+    }
+
+    @Test
+    void testPatchEmployee_RejectedField() throws Exception {
+        when(employeeService.patchEmployee(eq("EMP001"), any(), isNull()))
+                .thenThrow(new IllegalArgumentException("Field cannot be patched: empid"));
+
+        mockMvc.perform(patch("/api/EMP001")
+                .header("Authorization", authHeader)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"empid\":\"EMP002\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testPatchEmployee_Unauthorized() throws Exception {
+        mockMvc.perform(patch("/api/EMP001")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\":65000}"))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void testUpdateEmployee_NotFound() throws Exception {
-        doThrow(new EmployeeNotFoundException("Employee not found"))
-                .when(employeeService).updateEmployeeDetails(anyString(), any(Employee.class));
+        when(employeeService.updateEmployeeDetails(anyString(), any(Employee.class), isNull()))
+                .thenThrow(new EmployeeNotFoundException("Employee not found"));
 
         mockMvc.perform(put("/api")
                 .header("Authorization", authHeader)
@@ -164,6 +541,31 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.status").value("success"));
     }
 
+    @Test
+    void testArchiveEmployees_Success() throws Exception {
+        when(employeeService.archiveEmployees(any(EmployeeArchiveCriteria.class))).thenReturn(3);
+
+        mockMvc.perform(post("/api/archive")
+                .header("Authorization", authHeader)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"deptid\":10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.archived").value(3));
+    }
+
+    @Test
+    void testArchiveEmployees_InvalidCriteria() throws Exception {
+        when(employeeService.archiveEmployees(any(EmployeeArchiveCriteria.class)))
+                .thenThrow(new IllegalArgumentException("Exactly one of fname, deptid or empids must be given"));
+
+        mockMvc.perform(post("/api/archive")
+                .header("Authorization", authHeader)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
     @Test
     void testDeleteEmployeeByFname_Unauthorized() throws Exception {
         mockMvc.perform(delete("/api/John"))
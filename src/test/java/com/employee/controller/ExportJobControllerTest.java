@@ -0,0 +1,120 @@
+package com.employee.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.employee.config.AuthConfig;
+import com.employee.exception.TooManyExportsException;
+import com.employee.service.ExportFormat;
+import com.employee.service.ExportJob;
+import com.employee.service.ExportJobService;
+
+@WebMvcTest(ExportJobController.class)
+@Import({ BasicAuthValidator.class, AuthConfig.class })
+@SuppressWarnings("null")
+class ExportJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportJobService exportJobService;
+
+    @TempDir
+    Path tempDir;
+
+    private String authHeader;
+    private ExportJob job;
+
+    @BeforeEach
+    void setUp() {
+        authHeader = "Basic " + Base64.getEncoder().encodeToString("yash:1234".getBytes());
+        job = new ExportJob("job-1", "yash", ExportFormat.PDF, null, null);
+    }
+
+    @Test
+    void testSubmitExport_Accepted() throws Exception {
+        when(exportJobService.submit("yash", ExportFormat.PDF, null, 10)).thenReturn(job);
+
+        mockMvc.perform(post("/api/exports").header("Authorization", authHeader)
+                .param("format", "PDF").param("deptid", "10"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.owner").doesNotExist());
+    }
+
+    @Test
+    void testSubmitExport_LimitReached() throws Exception {
+        when(exportJobService.submit("yash", ExportFormat.EXCEL, null, null))
+                .thenThrow(new TooManyExportsException("At most 2 exports may be pending per user"));
+
+        mockMvc.perform(post("/api/exports").header("Authorization", authHeader).param("format", "EXCEL"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testSubmitExport_BadFormat() throws Exception {
+        mockMvc.perform(post("/api/exports").header("Authorization", authHeader).param("format", "CSV"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSubmitExport_Unauthorized() throws Exception {
+        mockMvc.perform(post("/api/exports").param("format", "PDF"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testListExports_Unauthorized() throws Exception {
+        mockMvc.perform(get("/api/exports"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid credentials"));
+    }
+
+    @Test
+    void testGetExport_NotOwned() throws Exception {
+        mockMvc.perform(get("/api/exports/job-1").header("Authorization", authHeader))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testDownloadExport_NotReady() throws Exception {
+        when(exportJobService.getJob("job-1", "yash")).thenReturn(job);
+
+        mockMvc.perform(get("/api/exports/job-1/file").header("Authorization", authHeader))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testDownloadExport_Completed() throws Exception {
+        ExportJob finished = mock(ExportJob.class);
+        Path file = Files.writeString(tempDir.resolve("job-1.pdf"), "%PDF-test");
+        when(finished.getId()).thenReturn("job-1");
+        when(finished.getStatus()).thenReturn(ExportJob.Status.COMPLETED);
+        when(finished.getFormat()).thenReturn(ExportFormat.PDF);
+        when(finished.getFile()).thenReturn(file);
+        when(exportJobService.getJob("job-1", "yash")).thenReturn(finished);
+
+        mockMvc.perform(get("/api/exports/job-1/file").header("Authorization", authHeader))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().string("%PDF-test"));
+    }
+}
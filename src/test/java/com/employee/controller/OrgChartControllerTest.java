@@ -0,0 +1,86 @@
+package com.employee.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.employee.entity.Employee;
+import com.employee.exception.EmployeeNotFoundException;
+import com.employee.response.OrgChartNode;
+import com.employee.response.SpanOfControl;
+import com.employee.service.OrgChartService;
+
+@WebMvcTest(OrgChartController.class)
+@SuppressWarnings("null")
+class OrgChartControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrgChartService orgChartService;
+
+    @Test
+    void testGetReports() throws Exception {
+        when(orgChartService.getReports("CEO", 2)).thenReturn(List.of(new OrgChartNode("VP1", 1), new OrgChartNode("DEV1", 2)));
+
+        mockMvc.perform(get("/api/org/CEO/reports").param("depth", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[1].empid").value("DEV1"))
+                .andExpect(jsonPath("$.data[1].depth").value(2));
+    }
+
+    @Test
+    void testGetReports_WithDetails() throws Exception {
+        Employee employee = new Employee();
+        employee.setEmpid("VP1");
+        employee.setFname("Bob");
+        when(orgChartService.getReportsWithDetails("CEO", null)).thenReturn(List.of(employee));
+
+        mockMvc.perform(get("/api/org/CEO/reports").param("details", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].fname").value("Bob"));
+    }
+
+    @Test
+    void testGetReports_InvalidDepth() throws Exception {
+        mockMvc.perform(get("/api/org/CEO/reports").param("depth", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testGetChainSpanAndDepth() throws Exception {
+        when(orgChartService.getManagementChain("DEV1")).thenReturn(List.of("VP1", "CEO"));
+        when(orgChartService.getSpanOfControl("VP1")).thenReturn(new SpanOfControl(2, 3));
+        when(orgChartService.getDepth("DEV1")).thenReturn(2);
+
+        mockMvc.perform(get("/api/org/DEV1/chain"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[1]").value("CEO"));
+        mockMvc.perform(get("/api/org/VP1/span"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.direct").value(2))
+                .andExpect(jsonPath("$.data.total").value(3));
+        mockMvc.perform(get("/api/org/DEV1/depth"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.depth").value(2));
+    }
+
+    @Test
+    void testUnknownEmployee_NotFound() throws Exception {
+        when(orgChartService.getDepth("NOBODY")).thenThrow(new EmployeeNotFoundException("Employee with empid NOBODY does not exist in the database"));
+
+        mockMvc.perform(get("/api/org/NOBODY/depth"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+}
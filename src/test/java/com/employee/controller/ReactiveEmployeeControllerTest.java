@@ -0,0 +1,132 @@
+package com.employee.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.employee.entity.Employee;
+import com.employee.service.ReactiveEmployeeService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(ReactiveEmployeeController.class)
+@SuppressWarnings("null")
+class ReactiveEmployeeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    private Employee first;
+    private Employee second;
+
+    @BeforeEach
+    void setUp() {
+        first = new Employee();
+        first.setEmpid("EMP001");
+        first.setFname("John");
+        second = new Employee();
+        second.setEmpid("EMP002");
+        second.setFname("Johanna");
+    }
+
+    @Test
+    void testGetEmployees_StreamsNdjson() throws Exception {
+        when(reactiveEmployeeService.getEmployees(null, 2)).thenReturn(Flux.just(first, second));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees").param("limit", "2")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = awaitLines(result, 2).trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"empid\":\"EMP001\""));
+        assertTrue(lines[1].contains("\"empid\":\"EMP002\""));
+    }
+
+    @Test
+    void testGetEmployees_InvalidLimit() throws Exception {
+        mockMvc.perform(get("/api/reactive/employees").param("limit", "0")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testGetEmployees_InvalidToken() throws Exception {
+        when(reactiveEmployeeService.getEmployees("bogus", null)).thenThrow(new IllegalArgumentException("Invalid continuation token"));
+
+        mockMvc.perform(get("/api/reactive/employees").param("after", "bogus")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testGetEmployeeByEmpId_Found() throws Exception {
+        when(reactiveEmployeeService.getEmployeeByEmpId("EMP001")).thenReturn(Mono.just(first));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees/EMP001"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fname").value("John"));
+    }
+
+    @Test
+    void testGetEmployeeByEmpId_NotFound() throws Exception {
+        when(reactiveEmployeeService.getEmployeeByEmpId("EMP999")).thenReturn(Mono.empty());
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees/EMP999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testSearchByFirstName_Json() throws Exception {
+        when(reactiveEmployeeService.searchEmployeesByFname("Jo", true)).thenReturn(Flux.just(first, second));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees/search/Jo").param("prefix", "true")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].empid").value("EMP001"))
+                .andExpect(jsonPath("$[1].empid").value("EMP002"));
+    }
+
+    // Items are written from a separate thread as the Flux emits them
+    private static String awaitLines(MvcResult result, int count) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (content.chars().filter(c -> c == '\n').count() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
@@ -2,7 +2,17 @@ package com.employee.integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,11 +24,18 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.employee.entity.Employee;
+import com.employee.response.BulkIngestResponse;
+import com.employee.response.EmployeeColumns;
 import com.employee.response.StandardResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -31,6 +48,12 @@ class EmployeeIntegrationTest {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private String baseUrl;
     private HttpHeaders headers;
 
@@ -125,6 +148,259 @@ class EmployeeIntegrationTest {
         assertEquals("success", deleteResponse.getBody().getStatus());
     }
 
+    @Test
+    void testRetriedCreateWithSameClientReqidAddsOneEmployee() {
+        Employee newEmployee = new Employee();
+        newEmployee.setEmpid("EMPIDEM01");
+        newEmployee.setFname("Idempotent");
+        newEmployee.setClient_reqid("req-it-1");
+        HttpEntity<Employee> createRequest = new HttpEntity<>(newEmployee, headers);
+
+        ResponseEntity<StandardResponse> first = restTemplate.exchange(baseUrl, HttpMethod.POST, createRequest, StandardResponse.class);
+        ResponseEntity<StandardResponse> retry = restTemplate.exchange(baseUrl, HttpMethod.POST, createRequest, StandardResponse.class);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.OK, retry.getStatusCode());
+        assertEquals("success", retry.getBody().getStatus());
+        ResponseEntity<Employee[]> searchResponse = restTemplate.getForEntity(baseUrl + "/search/Idempotent", Employee[].class);
+        assertEquals(1, searchResponse.getBody().length);
+
+        newEmployee.setEmpid("EMPIDEM02");
+        ResponseEntity<StandardResponse> reused = restTemplate.exchange(baseUrl, HttpMethod.POST,
+                new HttpEntity<>(newEmployee, headers), StandardResponse.class);
+        assertEquals(HttpStatus.CONFLICT, reused.getStatusCode());
+    }
+
+    @Test
+    void testReadModifyWriteIsAppliedAndOnlyRetriedPutsAreReplayed() {
+        Employee newEmployee = new Employee();
+        newEmployee.setEmpid("EMPIDEM03");
+        newEmployee.setFname("Roundtrip");
+        newEmployee.setSalary(40000);
+        newEmployee.setClient_reqid("req-it-3");
+        restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(newEmployee, headers), StandardResponse.class);
+
+        // GET returns the create key; sending the edited body back must not look like a retry of the POST
+        Employee read = restTemplate.getForEntity(baseUrl + "/EMPIDEM03", Employee.class).getBody();
+        assertEquals("req-it-3", read.getClient_reqid());
+        read.setSalary(45000);
+        assertEquals(HttpStatus.OK, restTemplate.exchange(baseUrl, HttpMethod.PUT, new HttpEntity<>(read, headers), StandardResponse.class).getStatusCode());
+        assertEquals(45000, restTemplate.getForEntity(baseUrl + "/EMPIDEM03", Employee.class).getBody().getSalary());
+
+        read.setSalary(50000);
+        read.setClient_reqid("req-it-4");
+        HttpEntity<Employee> keyedUpdate = new HttpEntity<>(read, headers);
+        restTemplate.exchange(baseUrl, HttpMethod.PUT, keyedUpdate, StandardResponse.class);
+        Employee afterKeyedUpdate = restTemplate.getForEntity(baseUrl + "/EMPIDEM03", Employee.class).getBody();
+        assertEquals(50000, afterKeyedUpdate.getSalary());
+        assertEquals("req-it-3", afterKeyedUpdate.getClient_reqid());
+
+        afterKeyedUpdate.setSalary(55000);
+        restTemplate.exchange(baseUrl, HttpMethod.PUT, new HttpEntity<>(afterKeyedUpdate, headers), StandardResponse.class);
+        ResponseEntity<StandardResponse> retriedUpdate = restTemplate.exchange(baseUrl, HttpMethod.PUT, keyedUpdate, StandardResponse.class);
+        assertEquals(HttpStatus.OK, retriedUpdate.getStatusCode());
+        assertEquals(55000, restTemplate.getForEntity(baseUrl + "/EMPIDEM03", Employee.class).getBody().getSalary());
+
+        ResponseEntity<StandardResponse> retriedCreate = restTemplate.exchange(baseUrl, HttpMethod.POST,
+                new HttpEntity<>(newEmployee, headers), StandardResponse.class);
+        assertEquals(HttpStatus.OK, retriedCreate.getStatusCode());
+        assertEquals(1, restTemplate.getForEntity(baseUrl + "/search/Roundtrip", Employee[].class).getBody().length);
+    }
+
+    @Test
+    void testUpdateWithStaleIfMatchIsRejected() {
+        Employee newEmployee = new Employee();
+        newEmployee.setEmpid("EMPVER01");
+        newEmployee.setFname("Versioned");
+        newEmployee.setSalary(40000);
+        restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(newEmployee, headers), StandardResponse.class);
+        String etag = restTemplate.getForEntity(baseUrl + "/EMPVER01", Employee.class).getHeaders().getETag();
+        assertNotNull(etag);
+
+        newEmployee.setSalary(45000);
+        HttpHeaders ifMatch = new HttpHeaders();
+        ifMatch.putAll(headers);
+        ifMatch.setIfMatch(etag);
+        ResponseEntity<StandardResponse> first = restTemplate.exchange(baseUrl, HttpMethod.PUT, new HttpEntity<>(newEmployee, ifMatch), StandardResponse.class);
+        ResponseEntity<StandardResponse> stale = restTemplate.exchange(baseUrl, HttpMethod.PUT, new HttpEntity<>(newEmployee, ifMatch), StandardResponse.class);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotEquals(etag, first.getHeaders().getETag());
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stale.getStatusCode());
+        assertEquals(first.getHeaders().getETag(), restTemplate.getForEntity(baseUrl + "/EMPVER01", Employee.class).getHeaders().getETag());
+    }
+
+    @Test
+    void testReactiveReadsSeeEmployeesWrittenThroughJpa() {
+        Employee newEmployee = new Employee();
+        newEmployee.setEmpid("EMPRX01");
+        newEmployee.setFname("Reactive");
+        newEmployee.setSalary(42000);
+        restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(newEmployee, headers), StandardResponse.class);
+
+        ResponseEntity<Employee> byEmpid = restTemplate.getForEntity(baseUrl + "/reactive/employees/EMPRX01", Employee.class);
+        assertEquals(HttpStatus.OK, byEmpid.getStatusCode());
+        assertEquals("Reactive", byEmpid.getBody().getFname());
+        assertEquals(42000, byEmpid.getBody().getSalary());
+
+        HttpHeaders ndjson = new HttpHeaders();
+        ndjson.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> listing = restTemplate.exchange(baseUrl + "/reactive/employees", HttpMethod.GET,
+                new HttpEntity<>(ndjson), String.class);
+        assertEquals(HttpStatus.OK, listing.getStatusCode());
+        assertTrue(listing.getBody().contains("\"empid\":\"EMPRX01\""));
+
+        ResponseEntity<Employee[]> search = restTemplate.getForEntity(baseUrl + "/reactive/employees/search/reac?prefix=true", Employee[].class);
+        assertEquals(1, search.getBody().length);
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(baseUrl + "/reactive/employees/EMPRX99", String.class).getStatusCode());
+    }
+
+    @Test
+    void testFullTextSearchFollowsWrites() {
+        Employee newEmployee = new Employee();
+        newEmployee.setEmpid("EMPFTS01");
+        newEmployee.setFname("Bartholomew");
+        newEmployee.setDeptid(7);
+        restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(newEmployee, headers), StandardResponse.class);
+
+        ResponseEntity<String> misspelled = restTemplate.getForEntity(baseUrl + "/search?q=bartolomew", String.class);
+        assertEquals(HttpStatus.OK, misspelled.getStatusCode());
+        assertTrue(misspelled.getBody().contains("\"empid\":\"EMPFTS01\""));
+
+        restTemplate.exchange(baseUrl + "/Bartholomew", HttpMethod.DELETE, new HttpEntity<>(headers), StandardResponse.class);
+        assertTrue(restTemplate.getForEntity(baseUrl + "/search?q=bartholomew", String.class).getBody().contains("\"total\":0"));
+    }
+
+    @Test
+    void testSearchIsTimedPerServiceMethodAndRepositoryQuery() {
+        restTemplate.getForEntity(baseUrl + "/search/Timed", String.class);
+
+        assertTrue(meterRegistry.get("employee.service").tag("method", "getEmployeesByFname").timer().count() >= 1);
+        assertTrue(meterRegistry.get("spring.data.repository.invocations").tag("repository", "EmployeeRepository").timers().size() >= 1);
+        assertTrue(meterRegistry.get("http.server.requests").tag("uri", "/api/search/{fname}").timer().count() >= 1);
+    }
+
+    @Test
+    void testBulkEncodingsAreSmallerOnTheWire() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            Employee employee = new Employee();
+            employee.setEmpid("EMPWIRE" + i);
+            employee.setFname("Wire" + i);
+            employee.setSalary(40000 + i);
+            restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(employee, headers), StandardResponse.class);
+        }
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<byte[]> json = client.send(HttpRequest.newBuilder(URI.create(baseUrl)).header("Accept", "application/json").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> cbor = client.send(HttpRequest.newBuilder(URI.create(baseUrl)).header("Accept", "application/cbor").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        // A page as large as the test database, so it holds the same rows as the other two
+        HttpResponse<byte[]> gzipped = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "?size=1000"))
+                .header("Accept", EmployeeColumns.MEDIA_TYPE).header("Accept-Encoding", "gzip").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        Employee[] decoded = new ObjectMapper(new CBORFactory()).readValue(cbor.body(), Employee[].class);
+        assertEquals(objectMapper.readValue(json.body(), Employee[].class).length, decoded.length);
+        assertTrue(cbor.body().length < json.body().length);
+        assertEquals("gzip", gzipped.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(gzipped.body().length * 4 < json.body().length);
+    }
+
+    @Test
+    void testBulkIngestInsertsTheValidRowsOfARejectedChunk() {
+        HttpHeaders ndjson = new HttpHeaders();
+        ndjson.putAll(headers);
+        ndjson.setContentType(MediaType.APPLICATION_NDJSON);
+        String body = """
+                {"empid":"EMPBULK01","fname":"First","client_reqid":"bulk-dup"}
+                {"empid":"EMPBULK02","fname":"Second","client_reqid":"bulk-dup"}
+                {"empid":"EMPBULK03","fname":"Third"}
+                """;
+
+        ResponseEntity<BulkIngestResponse> response = restTemplate.exchange(baseUrl + "/bulk", HttpMethod.POST,
+                new HttpEntity<>(body, ndjson), BulkIngestResponse.class);
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(2, response.getBody().getInserted());
+        assertEquals(1, response.getBody().getFailed());
+        assertEquals("EMPBULK02", response.getBody().getFailures().get(0).getEmpid());
+        assertEquals("Third", restTemplate.getForEntity(baseUrl + "/EMPBULK03", Employee.class).getBody().getFname());
+    }
+
+    @Test
+    void testListingETagChangesOnlyWithCommittedWrites() {
+        String etag = restTemplate.getForEntity(baseUrl + "/id-names", String.class).getHeaders().getETag();
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+
+        ResponseEntity<String> unchanged = restTemplate.exchange(baseUrl + "/id-names", HttpMethod.GET, new HttpEntity<>(conditional), String.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+
+        Employee employee = new Employee();
+        employee.setEmpid("EMPETAG01");
+        employee.setFname("Etag");
+        restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(employee, headers), StandardResponse.class);
+        String afterInsert = restTemplate.exchange(baseUrl + "/id-names", HttpMethod.GET, new HttpEntity<>(conditional), String.class)
+                .getHeaders().getETag();
+        assertNotEquals(etag, afterInsert);
+
+        // A rejected update rolls back together with its counter bump
+        HttpHeaders stale = new HttpHeaders();
+        stale.putAll(headers);
+        stale.setIfMatch("\"99\"");
+        employee.setFname("Stale");
+        ResponseEntity<StandardResponse> rejected = restTemplate.exchange(baseUrl, HttpMethod.PUT, new HttpEntity<>(employee, stale), StandardResponse.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, rejected.getStatusCode());
+        conditional.setIfNoneMatch(afterInsert);
+        assertEquals(HttpStatus.NOT_MODIFIED, restTemplate.exchange(baseUrl + "/id-names", HttpMethod.GET, new HttpEntity<>(conditional), String.class).getStatusCode());
+    }
+
+    @Test
+    void testChangeStreamDeliversCommittedWritesAndResumes() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<Stream<String>> live = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/changes")).build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, live.statusCode());
+
+        Employee employee = new Employee();
+        employee.setEmpid("EMPCDC01");
+        employee.setFname("Streamed");
+        restTemplate.exchange(baseUrl, HttpMethod.POST, new HttpEntity<>(employee, headers), StandardResponse.class);
+
+        List<String> event = nextEvent(live.body(), "EMPCDC01");
+        long offset = Long.parseLong(event.get(0).substring("id:".length()));
+        assertEquals("event:CREATED", event.get(1));
+
+        // A consumer that stopped just before this change gets it replayed from the outbox
+        HttpResponse<Stream<String>> resumed = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/changes"))
+                .header("Last-Event-ID", Long.toString(offset - 1)).build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(event, nextEvent(resumed.body(), "EMPCDC01"));
+
+        HttpResponse<String> gone = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/changes?after=" + (offset + 1000)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(410, gone.statusCode());
+    }
+
+    // Lines of the first event whose data mentions the marker: id, event, data
+    private static List<String> nextEvent(Stream<String> lines, String marker) throws Exception {
+        List<String> event = new ArrayList<>();
+        return CompletableFuture.supplyAsync(() -> {
+            for (Iterator<String> it = lines.iterator(); it.hasNext();) {
+                String line = it.next();
+                if (line.isEmpty()) {
+                    if (event.stream().anyMatch(l -> l.startsWith("data:") && l.contains(marker))) {
+                        return List.copyOf(event);
+                    }
+                    event.clear();
+                } else {
+                    event.add(line);
+                }
+            }
+            throw new IllegalStateException("Stream ended before " + marker);
+        }).get(15, TimeUnit.SECONDS);
+    }
+
     @Test
     void testUnauthorizedAccess() {
         Employee newEmployee = new Employee();
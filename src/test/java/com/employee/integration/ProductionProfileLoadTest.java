@@ -0,0 +1,189 @@
+package com.employee.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.employee.EmployeeManagementApplication;
+import com.employee.entity.Employee;
+import com.employee.response.BulkIngestResponse;
+import com.employee.service.EmployeeBulkIngestService;
+import com.employee.service.EmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs the same workload with the untuned defaults and with the production
+ * profile: a bulk insert, then concurrent name lookups and salary patches.
+ * Every build checks that the production pool and JDBC batching take effect,
+ * on a small insert. The throughput comparison is a manual benchmark that
+ * takes about a minute and only logs its numbers:
+ *
+ * {@code mvn test -Dtest=ProductionProfileLoadTest -Dloadtest=true}
+ *
+ * Uses in-memory H2 unless {@code -Dloadtest.url=jdbc:postgresql://...}
+ * (with {@code -Dloadtest.username} / {@code -Dloadtest.password}) points it
+ * at a scratch PostgreSQL database; its employees table is dropped and
+ * recreated. Prepared statement caching and batch rewriting only take effect
+ * on PostgreSQL.
+ */
+class ProductionProfileLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductionProfileLoadTest.class);
+
+    private static final String[] UNTUNED = {
+            "--spring.jpa.properties.hibernate.jdbc.batch_size=0",
+            "--spring.jpa.properties.hibernate.order_inserts=false" };
+    private static final String[] PRODUCTION = { "--spring.profiles.active=production" };
+    private static final int CHECK_ROWS = 1_000;
+    private static final int ROWS = Integer.getInteger("loadtest.rows", 20_000);
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 16);
+    private static final long MIXED_MILLIS = Long.getLong("loadtest.millis", 10_000);
+    private static final int DISTINCT_FNAMES = 100;
+
+    @Test
+    void testProductionProfileSizesThePoolAndBatchesInserts() throws Exception {
+        Result untuned = run("untuned-check", CHECK_ROWS, 0, UNTUNED);
+        Result production = run("production-check", CHECK_ROWS, 0, PRODUCTION);
+
+        assertEquals(production.cpuPoolSize, production.poolSize);
+        assertEquals(production.poolSize, production.minimumIdle);
+        // Untuned, every row is its own insert; in production they go out 50 to a JDBC batch
+        assertTrue(untuned.insertStatements >= CHECK_ROWS * 3 / 4, untuned.toString());
+        assertTrue(production.insertStatements * 10 < untuned.insertStatements, production + " vs " + untuned);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "loadtest", matches = "true")
+    void testProductionProfileThroughput() throws Exception {
+        Result untuned = run("untuned", ROWS, MIXED_MILLIS, UNTUNED);
+        Result production = run("production", ROWS, MIXED_MILLIS, PRODUCTION);
+
+        StringBuilder table = new StringBuilder(String.format("%n%-12s %6s %16s %16s", "profile", "pool", "inserts/s", "mixed ops/s"));
+        for (Result result : List.of(untuned, production)) {
+            table.append(String.format("%n%-12s %6d %16.0f %16.0f", result.name, result.poolSize, result.insertsPerSecond, result.mixedOpsPerSecond));
+        }
+        log.info("Production profile throughput:{}", table);
+        assertTrue(untuned.mixedOpsPerSecond > 0 && production.mixedOpsPerSecond > 0);
+    }
+
+    // mixedMillis of 0 skips the concurrent phase
+    private Result run(String name, int rows, long mixedMillis, String... profileArgs) throws Exception {
+        String url = System.getProperty("loadtest.url",
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE");
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getProperty("loadtest.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("loadtest.password", ""),
+                "--app.reactive.r2dbc-url=r2dbc:h2:mem:///" + name,
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.root=WARN",
+                "--logging.level.com.employee=WARN",
+                "--logging.level.com.employee.integration=INFO"));
+        if (url.startsWith("jdbc:h2:")) {
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        }
+        args.addAll(List.of(profileArgs));
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new))) {
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+            // The first quarter of the rows is not measured, for the same reason as the mixed warm-up below
+            EmployeeBulkIngestService bulkIngestService = context.getBean(EmployeeBulkIngestService.class);
+            int warmupRows = rows / 4;
+            assertEquals(0, ingest(bulkIngestService, 1, warmupRows).getFailed());
+            statistics.clear();
+            long start = System.nanoTime();
+            assertEquals(0, ingest(bulkIngestService, warmupRows + 1, rows).getFailed());
+            double insertsPerSecond = (rows - warmupRows) / seconds(System.nanoTime() - start);
+            long insertStatements = statistics.getPrepareStatementCount();
+
+            double mixedOpsPerSecond = 0;
+            if (mixedMillis > 0) {
+                EmployeeService employeeService = context.getBean(EmployeeService.class);
+                // Not measured: lets the JIT and both caches settle, so the first configuration is not penalised
+                mixed(employeeService, rows, mixedMillis / 2);
+                mixedOpsPerSecond = mixed(employeeService, rows, mixedMillis);
+            }
+            return new Result(name, dataSource.getMaximumPoolSize(), dataSource.getMinimumIdle(),
+                    context.getEnvironment().getProperty("app.db.cpu-pool-size", Integer.class, -1),
+                    insertStatements, insertsPerSecond, mixedOpsPerSecond);
+        }
+    }
+
+    // Each thread alternates a lookup by name with a patch of an employee only it touches
+    private static double mixed(EmployeeService employeeService, int rows, long millis) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        List<Future<Long>> counts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            counts.add(pool.submit(() -> {
+                long ops = 0;
+                for (int i = 0; System.nanoTime() < deadline; i++) {
+                    employeeService.getEmployeesByFname("Name" + (i % DISTINCT_FNAMES));
+                    int id = 1 + (thread + i * THREADS) % rows;
+                    employeeService.patchEmployee("EMP" + id, Map.of("salary", 30_000 + i), null);
+                    ops += 2;
+                }
+                return ops;
+            }));
+        }
+        long total = 0;
+        for (Future<Long> count : counts) {
+            total += count.get();
+        }
+        pool.shutdown();
+        return total / (millis / 1000.0);
+    }
+
+    private static BulkIngestResponse ingest(EmployeeBulkIngestService bulkIngestService, int firstId, int lastId) {
+        return bulkIngestService.ingest(IntStream.rangeClosed(firstId, lastId).mapToObj(ProductionProfileLoadTest::employee).iterator());
+    }
+
+    private static Employee employee(int id) {
+        Employee employee = new Employee();
+        employee.setEmpid("EMP" + id);
+        employee.setFname("Name" + (id % DISTINCT_FNAMES));
+        employee.setDob(Date.valueOf(LocalDate.of(1990, 1, 1)));
+        employee.setDoj(Date.valueOf(LocalDate.of(2020, 1, 1)));
+        employee.setSalary(30_000 + id % 70_000);
+        employee.setDeptid(id % 20);
+        employee.setRankid(id % 8);
+        return employee;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private record Result(String name, int poolSize, int minimumIdle, int cpuPoolSize, long insertStatements,
+            double insertsPerSecond, double mixedOpsPerSecond) {
+    }
+}
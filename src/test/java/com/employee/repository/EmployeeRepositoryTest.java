@@ -2,17 +2,31 @@ package com.employee.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.sql.Date;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
 
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeFilter;
+import com.employee.entity.EmployeeIdName;
+import com.employee.entity.EmployeeKey;
+import com.employee.entity.EmployeeShadow;
+import com.employee.response.EmployeeGroupStatistics;
 
 @DataJpaTest
+// H2 dialect from the test profile; the PostgreSQL one renders locking reads that H2 rejects
+@ActiveProfiles("test")
 @SuppressWarnings("null")
 class EmployeeRepositoryTest {
 
@@ -22,6 +36,9 @@ class EmployeeRepositoryTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeShadowRepo employeeShadowRepository;
+
     private Employee testEmployee;
 
     @BeforeEach
@@ -112,4 +129,272 @@ class EmployeeRepositoryTest {
         Employee found = employeeRepository.findByEmpid("EMP001");
         assertNull(found);
     }
+
+    @Test
+    void testFindByIdGreaterThan_SeeksPastLastId() {
+        Employee employee2 = new Employee();
+        employee2.setEmpid("EMP002");
+        employee2.setFname("Jane");
+        Employee employee3 = new Employee();
+        employee3.setEmpid("EMP003");
+        employee3.setFname("Jim");
+
+        entityManager.persist(testEmployee);
+        entityManager.persist(employee2);
+        entityManager.persist(employee3);
+        entityManager.flush();
+
+        List<Employee> firstPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+        List<Employee> secondPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(firstPage.get(1).getId(), Limit.of(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals("EMP001", firstPage.get(0).getEmpid());
+        assertEquals(1, secondPage.size());
+        assertEquals("EMP003", secondPage.get(0).getEmpid());
+    }
+
+    @Test
+    void testStreamAllOrderById() {
+        entityManager.persist(testEmployee);
+        entityManager.flush();
+
+        try (Stream<Employee> employees = employeeRepository.streamAllOrderById()) {
+            assertEquals(1, employees.count());
+        }
+    }
+
+    @Test
+    void testStreamByFnameAndDeptidOrderById() {
+        testEmployee.setDeptid(10);
+        entityManager.persist(testEmployee);
+        Employee other = new Employee();
+        other.setEmpid("EMP002");
+        other.setFname("John");
+        other.setDeptid(20);
+        entityManager.persist(other);
+        entityManager.flush();
+
+        try (Stream<Employee> employees = employeeRepository.streamByFnameAndDeptidOrderById("JOHN", null)) {
+            assertEquals(2, employees.count());
+        }
+        try (Stream<Employee> employees = employeeRepository.streamByFnameAndDeptidOrderById("john", 20)) {
+            assertEquals(List.of("EMP002"), employees.map(Employee::getEmpid).toList());
+        }
+        try (Stream<Employee> employees = employeeRepository.streamByFnameAndDeptidOrderById(null, 30)) {
+            assertEquals(0, employees.count());
+        }
+    }
+
+    @Test
+    void testFindByFnameIgnoreCase() {
+        entityManager.persist(testEmployee);
+        entityManager.flush();
+
+        List<Employee> found = employeeRepository.findByFnameIgnoreCase("JOHN");
+
+        assertEquals(1, found.size());
+        assertEquals("EMP001", found.get(0).getEmpid());
+    }
+
+    @Test
+    void testFindByFnameStartingWithIgnoreCase_Paged() {
+        Employee employee2 = new Employee();
+        employee2.setEmpid("EMP002");
+        employee2.setFname("Johnny");
+        Employee employee3 = new Employee();
+        employee3.setEmpid("EMP003");
+        employee3.setFname("Jane");
+
+        entityManager.persist(testEmployee);
+        entityManager.persist(employee2);
+        entityManager.persist(employee3);
+        entityManager.flush();
+
+        List<Employee> firstPage = employeeRepository.findByFnameStartingWithIgnoreCase("jo", PageRequest.of(0, 1));
+        List<Employee> secondPage = employeeRepository.findByFnameStartingWithIgnoreCase("jo", PageRequest.of(1, 1));
+
+        assertEquals(1, firstPage.size());
+        assertEquals("John", firstPage.get(0).getFname());
+        assertEquals(1, secondPage.size());
+        assertEquals("Johnny", secondPage.get(0).getFname());
+    }
+
+    @Test
+    void testFindByFnameStartingWithIgnoreCase_WildcardIsLiteral() {
+        entityManager.persist(testEmployee);
+        entityManager.flush();
+
+        List<Employee> found = employeeRepository.findByFnameStartingWithIgnoreCase("J\\%", PageRequest.of(0, 10));
+
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    void testFindAllIdNames() {
+        entityManager.persist(testEmployee);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<EmployeeIdName> idNames = employeeRepository.findAllIdNames();
+
+        assertEquals(List.of(new EmployeeIdName("EMP001", "John")), idNames);
+    }
+
+    private static List<Long> ids(List<EmployeeKey> keys) {
+        return keys.stream().map(EmployeeKey::id).toList();
+    }
+
+    @Test
+    void testArchiveByIds_MovesTheRowsUnchanged() {
+        testEmployee.setUpdatedat(Date.valueOf("2024-03-01"));
+        Employee employee2 = new Employee();
+        employee2.setEmpid("EMP002");
+        employee2.setFname("John");
+        employee2.setDeptid(10);
+        Employee employee3 = new Employee();
+        employee3.setEmpid("EMP003");
+        employee3.setFname("Jane");
+
+        entityManager.persist(testEmployee);
+        entityManager.persist(employee2);
+        entityManager.persist(employee3);
+        entityManager.flush();
+        long updatedat = testEmployee.getUpdatedat().getTime();
+
+        List<Long> ids = ids(employeeRepository.findKeysByFname("John"));
+        int archived = employeeShadowRepository.archiveByIds(ids);
+        int deleted = employeeRepository.deleteAllByIds(ids);
+
+        assertEquals(2, archived);
+        assertEquals(2, deleted);
+        assertEquals(2, employeeShadowRepository.count());
+        assertEquals(1, employeeRepository.count());
+        assertNull(employeeRepository.findByEmpid("EMP002"));
+        EmployeeShadow shadow = employeeShadowRepository.findAll().stream()
+                .filter(row -> row.getEmpid().equals(testEmployee.getEmpid())).findFirst().orElseThrow();
+        assertEquals(updatedat, shadow.getUpdatedat().getTime());
+    }
+
+    @Test
+    void testFindKeysByDeptidAndEmpids() {
+        testEmployee.setDeptid(10);
+        Employee employee2 = new Employee();
+        employee2.setEmpid("EMP002");
+        employee2.setFname("Jane");
+
+        entityManager.persist(testEmployee);
+        entityManager.persist(employee2);
+        entityManager.flush();
+
+        assertEquals(List.of(testEmployee.getId()), ids(employeeRepository.findKeysByDeptid(10)));
+        assertEquals(List.of(employee2.getId()), ids(employeeRepository.findKeysByEmpids(List.of("EMP002", "EMP404"))));
+    }
+
+    private Employee persist(String empid, String fname, Employee manager) {
+        Employee employee = new Employee();
+        employee.setEmpid(empid);
+        employee.setFname(fname);
+        if (manager != null) {
+            employee.setReportsto(manager.getId().intValue());
+        }
+        return entityManager.persistAndFlush(employee);
+    }
+
+    @Test
+    void testRecursiveReportsAndManagementChain() {
+        Employee ceo = persist("CEO", "Alice", null);
+        Employee vp = persist("VP1", "Bob", ceo);
+        Employee dev = persist("DEV1", "Carol", vp);
+        persist("DEV2", "Dan", vp);
+        persist("INT1", "Erin", dev);
+        entityManager.clear();
+
+        List<Employee> reports = employeeRepository.findReportsByEmpid("CEO", 100);
+        List<Employee> twoLevels = employeeRepository.findReportsByEmpid("CEO", 2);
+        List<Employee> chain = employeeRepository.findManagementChainByEmpid("INT1", 100);
+
+        assertEquals(List.of("VP1", "DEV1", "DEV2", "INT1"), reports.stream().map(Employee::getEmpid).toList());
+        assertEquals(3, twoLevels.size());
+        assertEquals(List.of("DEV1", "VP1", "CEO"), chain.stream().map(Employee::getEmpid).toList());
+        assertTrue(employeeRepository.findManagementChainByEmpid("CEO", 100).isEmpty());
+        assertEquals(5, employeeRepository.findAllReportingLines().size());
+    }
+
+    @Test
+    void testFindKeysByFname() {
+        entityManager.persistAndFlush(testEmployee);
+
+        List<EmployeeKey> keys = employeeRepository.findKeysByFname("John");
+
+        assertEquals(List.of(new EmployeeKey(testEmployee.getId(), "EMP001")), keys);
+    }
+
+    private void persistForStatistics(String empid, Integer deptid, Integer rankid, int salary, LocalDate doj) {
+        Employee employee = new Employee();
+        employee.setEmpid(empid);
+        employee.setFname("Stat");
+        employee.setDeptid(deptid);
+        employee.setRankid(rankid);
+        employee.setSalary(salary);
+        employee.setDoj(doj == null ? null : Date.valueOf(doj));
+        entityManager.persist(employee);
+    }
+
+    @Test
+    void testSummarizeByDeptidAndRankid() {
+        LocalDate today = LocalDate.now();
+        persistForStatistics("EMP001", 10, 1, 1000, today.minusDays(100));
+        persistForStatistics("EMP002", 10, 2, 2000, today.minusDays(300));
+        persistForStatistics("EMP003", 10, 2, 3000, null);
+        persistForStatistics("EMP004", 20, 1, 5000, today.minusDays(10));
+        entityManager.flush();
+
+        List<EmployeeGroupStatistics> byDept = employeeRepository.summarizeByDeptid();
+        List<EmployeeGroupStatistics> byRank = employeeRepository.summarizeByRankid();
+
+        assertEquals(2, byDept.size());
+        EmployeeGroupStatistics dept10 = byDept.get(0);
+        assertEquals(10, dept10.group());
+        assertEquals(3, dept10.headcount());
+        assertEquals(1000, dept10.minSalary());
+        assertEquals(3000, dept10.maxSalary());
+        assertEquals(2000.0, dept10.avgSalary(), 0.001);
+        assertEquals(2000.0, dept10.medianSalary(), 0.001);
+        assertEquals(2800.0, dept10.p90Salary(), 0.001);
+        assertEquals(100L, dept10.minTenureDays());
+        assertEquals(300L, dept10.maxTenureDays());
+        assertEquals(200.0, dept10.avgTenureDays(), 0.001);
+        assertEquals(List.of(1, 2), byRank.stream().map(EmployeeGroupStatistics::group).toList());
+        assertEquals(2, byRank.get(0).headcount());
+    }
+
+    @Test
+    void testFindBySpecification_CombinedFilterAndKeysetPages() {
+        LocalDate joined = LocalDate.of(2020, 1, 1);
+        persistForStatistics("EMP001", 10, 1, 4000, joined);
+        persistForStatistics("EMP002", 10, 2, 6000, joined.plusDays(10));
+        persistForStatistics("EMP003", 20, 1, 6000, joined.plusDays(20));
+        persistForStatistics("EMP004", 30, 1, 7000, joined.plusDays(30));
+        persistForStatistics("EMP005", 10, 1, 9000, joined.plusYears(2));
+        entityManager.flush();
+
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setDeptid(List.of(10, 20));
+        filter.setMinSalary(5000);
+        filter.setDojTo(joined.plusYears(1));
+        Sort bySalaryDesc = Sort.by(Sort.Direction.DESC, "salary", "id");
+
+        List<Employee> all = employeeRepository.findBy(EmployeeSpecifications.matching(filter),
+                query -> query.sortBy(bySalaryDesc).all());
+        assertEquals(List.of("EMP003", "EMP002"), all.stream().map(Employee::getEmpid).toList());
+
+        Employee first = employeeRepository.findBy(EmployeeSpecifications.matching(filter),
+                query -> query.sortBy(bySalaryDesc).limit(1).all()).get(0);
+        List<Employee> rest = employeeRepository.findBy(
+                EmployeeSpecifications.matching(filter)
+                        .and(EmployeeSpecifications.seekAfter("salary", first.getSalary(), first.getId(), true)),
+                query -> query.sortBy(bySalaryDesc).limit(1).all());
+        assertEquals("EMP003", first.getEmpid());
+        assertEquals(List.of("EMP002"), rest.stream().map(Employee::getEmpid).toList());
+    }
 }
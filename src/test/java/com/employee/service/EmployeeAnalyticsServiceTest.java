@@ -0,0 +1,76 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.employee.config.CacheConfig;
+import com.employee.entity.EmployeeKey;
+import com.employee.repository.EmployeeRepository;
+import com.employee.response.EmployeeGroupStatistics;
+import com.employee.service.EmployeeAnalyticsService.Grouping;
+
+@SpringBootTest(classes = { CacheConfig.class, EmployeeAnalyticsService.class })
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+@SuppressWarnings("null")
+class EmployeeAnalyticsServiceTest {
+
+    @Autowired
+    private EmployeeAnalyticsService analyticsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    private final List<EmployeeGroupStatistics> departments = List.of(
+            new EmployeeGroupStatistics(10, 3, 1000, 3000, 2000.0, 2000.0, 2800.0, 100L, 300L, 200.0));
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.EMPLOYEE_ANALYTICS).clear();
+        when(employeeRepository.summarizeByDeptid()).thenReturn(departments);
+    }
+
+    @Test
+    void testSummarize_SecondReadIsCached() {
+        analyticsService.summarize(Grouping.DEPARTMENT);
+        List<EmployeeGroupStatistics> result = analyticsService.summarize(Grouping.DEPARTMENT);
+
+        assertEquals(departments, result);
+        verify(employeeRepository, times(1)).summarizeByDeptid();
+    }
+
+    @Test
+    void testSummarize_GroupingsAreCachedSeparately() {
+        analyticsService.summarize(Grouping.DEPARTMENT);
+        analyticsService.summarize(Grouping.RANK);
+
+        verify(employeeRepository, times(1)).summarizeByDeptid();
+        verify(employeeRepository, times(1)).summarizeByRankid();
+    }
+
+    @Test
+    void testEmployeeChangedEvent_DropsCachedSummaries() {
+        analyticsService.summarize(Grouping.DEPARTMENT);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(List.of(new EmployeeKey(1L, "EMP001"))));
+        analyticsService.summarize(Grouping.DEPARTMENT);
+
+        verify(employeeRepository, times(2)).summarizeByDeptid();
+    }
+}
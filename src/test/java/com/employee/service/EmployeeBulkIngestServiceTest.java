@@ -0,0 +1,142 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+import com.employee.response.BulkIngestResponse;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class EmployeeBulkIngestServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EmployeeBulkIngestService bulkIngestService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        bulkIngestService = new EmployeeBulkIngestService(employeeRepository, entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, eventPublisher, 2);
+    }
+
+    private static Employee employee(String empid, String fname) {
+        Employee employee = new Employee();
+        employee.setEmpid(empid);
+        employee.setFname(fname);
+        return employee;
+    }
+
+    @Test
+    void testIngest_CommitsInChunks() {
+        List<Employee> rows = List.of(employee("EMP001", "John"), employee("EMP002", "Jane"), employee("EMP003", "Jim"));
+
+        BulkIngestResponse result = bulkIngestService.ingest(rows.iterator());
+
+        assertEquals(3, result.getReceived());
+        assertEquals(3, result.getInserted());
+        assertEquals(0, result.getFailed());
+        verify(employeeRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher, times(2)).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void testIngest_ReportsInvalidRowsAndKeepsGoing() {
+        List<Employee> rows = List.of(employee("EMP001", "John"), employee("X", "Jane"), employee("EMP003", ""));
+
+        BulkIngestResponse result = bulkIngestService.ingest(rows.iterator());
+
+        assertEquals(3, result.getReceived());
+        assertEquals(1, result.getInserted());
+        assertEquals(2, result.getFailed());
+        assertEquals(1, result.getFailures().get(0).getRow());
+        assertEquals("X", result.getFailures().get(0).getEmpid());
+        assertTrue(result.getFailures().get(1).getMessage().contains("fname"));
+    }
+
+    @Test
+    void testIngest_FailedChunkIsSplitUntilOnlyTheBadRowFails() {
+        when(employeeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Employee> chunk = invocation.getArgument(0);
+            // Retried rows come back as new entities
+            chunk.forEach(employee -> assertNull(employee.getVersion()));
+            chunk.forEach(employee -> employee.setVersion(0L));
+            if (chunk.stream().anyMatch(employee -> employee.getEmpid().equals("EMP002"))) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return chunk;
+        });
+        List<Employee> rows = List.of(employee("EMP001", "John"), employee("EMP002", "Jane"), employee("EMP003", "Jim"));
+
+        BulkIngestResponse result = bulkIngestService.ingest(rows.iterator());
+
+        assertEquals(2, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getFailures().get(0).getRow());
+        assertEquals("EMP002", result.getFailures().get(0).getEmpid());
+        assertTrue(result.getFailures().get(0).getMessage().startsWith("Rejected by database"));
+        // The chunk of two, then EMP002 on its own
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void testIngest_UnreadableRowStopsIngest() {
+        Iterator<Employee> rows = new Iterator<>() {
+            private int calls;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Employee next() {
+                if (calls++ == 0) {
+                    return employee("EMP001", "John");
+                }
+                throw new IllegalStateException("malformed JSON");
+            }
+        };
+
+        BulkIngestResponse result = bulkIngestService.ingest(rows);
+
+        assertEquals(1, result.getReceived());
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getFailures().get(0).getMessage().startsWith("Unreadable row"));
+    }
+}
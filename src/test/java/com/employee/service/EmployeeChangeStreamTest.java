@@ -0,0 +1,86 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.employee.repository.EmployeeOutboxRepository;
+import com.employee.response.EmployeeChange;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeStreamTest {
+
+    @Mock
+    private EmployeeOutboxRepository outboxRepository;
+
+    // Runs drains only when the test says so, standing in for the subscriber threads
+    private final Queue<Runnable> drains = new ArrayDeque<>();
+    private EmployeeChangeStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new EmployeeChangeStream(outboxRepository, Duration.ofMinutes(1), 100, 2, drains::add);
+        when(outboxRepository.findMaxId()).thenReturn(5L);
+    }
+
+    private static EmployeeChangeBatch batch(long after, long... offsets) {
+        return new EmployeeChangeBatch(after, Arrays.stream(offsets)
+                .mapToObj(offset -> new EmployeeChange(offset, "UPDATED", Instant.EPOCH, "{}")).toList());
+    }
+
+    private void runDrains() {
+        for (Runnable drain; (drain = drains.poll()) != null;) {
+            drain.run();
+        }
+    }
+
+    @Test
+    void testSubscribeAndPublish_LeaveReplayAndSendsToTheSubscriberThread() {
+        when(outboxRepository.findChanges(eq(3L), eq(5L), any()))
+                .thenReturn(List.of(new EmployeeChange(4, "CREATED", Instant.EPOCH, "{}")));
+
+        stream.subscribe(3L);
+        stream.publish(batch(5, 6));
+
+        verify(outboxRepository, never()).findChanges(anyLong(), anyLong(), any());
+        assertEquals(1, drains.size());
+
+        runDrains();
+
+        // Offset 5 was a rolled back write: the replay page ends early and the gap is skipped
+        verify(outboxRepository).findChanges(eq(4L), eq(5L), any());
+        assertEquals(1, stream.subscriberCount());
+        assertTrue(drains.isEmpty());
+    }
+
+    @Test
+    void testPublish_DisconnectsASubscriberThatFallsTooFarBehind() {
+        stream.subscribe(null);
+        stream.publish(batch(5, 6));
+        assertEquals(1, stream.subscriberCount());
+
+        // Two batches already wait in its queue
+        stream.publish(batch(6, 7));
+
+        assertEquals(0, stream.subscriberCount());
+        runDrains();
+        stream.publish(batch(7, 8));
+        assertTrue(drains.isEmpty());
+        verify(outboxRepository, never()).findChanges(anyLong(), anyLong(), any());
+    }
+}
@@ -0,0 +1,66 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import com.employee.entity.EmployeeChangeCounter;
+import com.employee.entity.EmployeeKey;
+import com.employee.repository.EmployeeChangeCounterRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeTrackerTest {
+
+    @Mock
+    private EmployeeChangeCounterRepository counterRepository;
+
+    // Unstubbed: TransactionTemplate runs its callback against a null transaction status
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmployeeChangeTracker tracker;
+
+    private final EmployeeChangedEvent event = EmployeeChangedEvent.deleted(List.of(new EmployeeKey(1L, "EMP001")));
+
+    @BeforeEach
+    void setUp() {
+        tracker = new EmployeeChangeTracker(counterRepository, transactionManager);
+    }
+
+    @Test
+    void testBumpsTheCounterInTheWritingTransaction() {
+        when(counterRepository.increment(any())).thenReturn(1);
+
+        tracker.onEmployeeChanged(event);
+
+        verify(transactionManager).getTransaction(argThat(definition -> definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRED));
+        verify(counterRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreatesTheCounterRowWhenMissing() {
+        when(counterRepository.increment(any())).thenReturn(0);
+
+        tracker.onEmployeeChanged(event);
+
+        verify(counterRepository).save(argThat((EmployeeChangeCounter counter) -> counter.getVersion() == 1));
+    }
+
+    @Test
+    void testFailedBumpFailsTheWrite() {
+        when(counterRepository.increment(any())).thenThrow(new QueryTimeoutException("lock timeout"));
+
+        assertThrows(QueryTimeoutException.class, () -> tracker.onEmployeeChanged(event));
+    }
+}
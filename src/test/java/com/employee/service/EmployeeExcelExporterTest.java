@@ -0,0 +1,65 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.sql.Date;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import com.employee.entity.Employee;
+
+class EmployeeExcelExporterTest {
+
+    private static Employee employee(String empid, String fname) {
+        Employee employee = new Employee();
+        employee.setEmpid(empid);
+        employee.setFname(fname);
+        employee.setDob(Date.valueOf("1990-01-15"));
+        employee.setSalary(50000);
+        employee.setDeptid(10);
+        return employee;
+    }
+
+    @Test
+    void testExport_WritesHeaderAndStreamedRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmployeeSource source = action -> {
+            for (int i = 0; i < 250; i++) {
+                action.accept(employee("EMP" + i, "Name" + i));
+            }
+        };
+
+        int rows = new EmployeeExcelExporter(source).export(out);
+
+        assertEquals(250, rows);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Employees");
+            assertEquals(250, sheet.getLastRowNum());
+            assertEquals("Emp Id", sheet.getRow(0).getCell(0).getStringCellValue());
+
+            Row last = sheet.getRow(250);
+            assertEquals("EMP249", last.getCell(0).getStringCellValue());
+            assertEquals("1990-01-15", last.getCell(2).getStringCellValue());
+            assertEquals("-", last.getCell(3).getStringCellValue());
+            assertEquals(50000, last.getCell(4).getNumericCellValue());
+            assertEquals(10, last.getCell(6).getNumericCellValue());
+            assertTrue(sheet.getColumnWidth(1) > 256);
+        }
+    }
+
+    @Test
+    void testExport_FromList() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        int rows = new EmployeeExcelExporter(List.of(employee("EMP001", "John"))).export(out);
+
+        assertEquals(1, rows);
+        assertTrue(out.size() > 0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.employee.repository.EmployeeOutboxRepository;
+import com.employee.response.EmployeeChange;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EmployeeOutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    @Mock
+    private EmployeeOutboxRepository outboxRepository;
+
+    private final List<EmployeeChange> outbox = new ArrayList<>();
+    private final RecordingSink sink = new RecordingSink();
+
+    @BeforeEach
+    void setUp() {
+        when(outboxRepository.findChanges(anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            return outbox.stream().filter(change -> change.offset() > after).toList();
+        });
+    }
+
+    private EmployeeOutboxRelay relay(Instant now) {
+        return new EmployeeOutboxRelay(outboxRepository, List.of(sink), 500, Duration.ofSeconds(10), Duration.ofDays(7),
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private void write(long offset, Instant at) {
+        outbox.add(new EmployeeChange(offset, "CREATED", at, "{}"));
+    }
+
+    @Test
+    void testPoll_DeliversFromStartOffsetAndAdvances() {
+        write(1, NOW);
+        write(2, NOW);
+        sink.startOffset = 1;
+        EmployeeOutboxRelay relay = relay(NOW);
+
+        relay.poll();
+        write(3, NOW);
+        relay.poll();
+        relay.poll();
+
+        assertEquals(2, sink.batches.size());
+        assertEquals(1, sink.batches.get(0).afterOffset());
+        assertEquals(List.of(2L), offsets(sink.batches.get(0)));
+        assertEquals(2, sink.batches.get(1).afterOffset());
+        assertEquals(List.of(3L), offsets(sink.batches.get(1)));
+    }
+
+    @Test
+    void testPoll_FailedSinkGetsSameBatchAgain() {
+        write(1, NOW);
+        sink.failures = 1;
+        EmployeeOutboxRelay relay = relay(NOW);
+
+        relay.poll();
+        relay.poll();
+
+        assertEquals(2, sink.batches.size());
+        assertEquals(sink.batches.get(0), sink.batches.get(1));
+    }
+
+    @Test
+    void testPoll_WaitsForMissingOffsetUntilGapTimeout() {
+        write(1, NOW);
+        write(3, NOW.minusSeconds(2));
+
+        relay(NOW).poll();
+        assertEquals(List.of(1L), offsets(sink.batches.get(0)));
+
+        // Offset 2 never committed: after the timeout 3 goes out on its own
+        EmployeeOutboxRelay later = relay(NOW.plusSeconds(10));
+        sink.startOffset = 1;
+        later.poll();
+        assertEquals(1, sink.batches.get(1).afterOffset());
+        assertEquals(List.of(3L), offsets(sink.batches.get(1)));
+    }
+
+    private static List<Long> offsets(EmployeeChangeBatch batch) {
+        return batch.changes().stream().map(EmployeeChange::offset).toList();
+    }
+
+    private static final class RecordingSink implements EmployeeChangeSink {
+
+        private final List<EmployeeChangeBatch> batches = new ArrayList<>();
+        private long startOffset;
+        private int failures;
+
+        @Override
+        public long startOffset() {
+            return startOffset;
+        }
+
+        @Override
+        public void publish(EmployeeChangeBatch batch) {
+            batches.add(batch);
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("broker unavailable");
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.employee.entity.Employee;
+import com.employee.response.EmployeeSearchHit;
+import com.employee.response.EmployeeSearchResult;
+
+class EmployeeSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EmployeeSearchIndex index;
+
+    private static Employee employee(long id, String empid, String fname, Integer deptid) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmpid(empid);
+        employee.setFname(fname);
+        employee.setDeptid(deptid);
+        return employee;
+    }
+
+    private static List<String> empids(EmployeeSearchResult result) {
+        return result.items().stream().map(EmployeeSearchHit::empid).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSearchIndex(null);
+        List<Employee> employees = List.of(
+                employee(1, "EMP001", "John", 10),
+                employee(2, "EMP002", "Johnathan", 20),
+                employee(3, "EMP003", "Jon", 10),
+                employee(4, "EMP004", "Mary Ann", 20),
+                employee(5, "EMP005", "Marianne", 30));
+        index.replaceAll(employees::forEach);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void testExactMatchRanksAbovePrefixAndFuzzy() {
+        EmployeeSearchResult result = index.search("john", null, 0, 10);
+
+        // John exactly, Johnathan by prefix, Jon within one edit
+        assertEquals(List.of("EMP001", "EMP002", "EMP003"), empids(result));
+        assertEquals(3, result.total());
+        assertTrue(result.items().get(0).score() > result.items().get(1).score());
+        assertEquals(new EmployeeSearchHit("EMP001", "John", 10, result.items().get(0).score()), result.items().get(0));
+    }
+
+    @Test
+    void testMisspelledAndPartialNames() {
+        assertEquals("EMP002", empids(index.search("Jonathan", null, 0, 10)).get(0));
+        assertEquals(List.of("EMP005"), empids(index.search("marriane", null, 0, 10)));
+        assertTrue(empids(index.search("mar", null, 0, 10)).containsAll(List.of("EMP004", "EMP005")));
+    }
+
+    @Test
+    void testEveryWordMustMatch() {
+        assertEquals(List.of("EMP004"), empids(index.search("mary ann", null, 0, 10)));
+        assertTrue(index.search("mary zzz", null, 0, 10).items().isEmpty());
+    }
+
+    @Test
+    void testEmpidAndDepartmentFilter() {
+        assertEquals(List.of("EMP004"), empids(index.search("emp004", null, 0, 10)));
+        assertEquals(5, index.search("EMP00", null, 0, 10).total());
+        assertEquals(List.of("EMP001", "EMP003"), empids(index.search("john", 10, 0, 10)));
+    }
+
+    @Test
+    void testPagination() {
+        EmployeeSearchResult second = index.search("emp", null, 1, 2);
+
+        assertEquals(List.of("EMP003", "EMP004"), empids(second));
+        assertEquals(5, second.total());
+        assertTrue(index.search("emp", null, 3, 2).items().isEmpty());
+    }
+
+    @Test
+    void testUpdatesAreVisibleAfterRefresh() {
+        index.putAll(List.of(employee(6, "EMP006", "Priya", 40), employee(3, "EMP003", "Jay", 10)));
+        index.removeAll(List.of(1L));
+        assertTrue(index.search("priya", null, 0, 10).items().isEmpty());
+
+        index.refresh();
+
+        assertEquals(List.of("EMP006"), empids(index.search("priya", null, 0, 10)));
+        assertEquals(List.of("EMP002"), empids(index.search("john", null, 0, 10)));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void testRebuildReplaysUpdatesMadeWhileLoading() {
+        index.startRecording();
+        index.replaceAll(action -> {
+            action.accept(employee(1, "EMP001", "John", 10));
+            // Committed while the rows above were being read
+            index.putAll(List.of(employee(1, "EMP001", "Johann", 10), employee(2, "EMP002", "Ravi", 20)));
+        });
+
+        assertEquals(List.of("EMP001"), empids(index.search("johann", null, 0, 10)));
+        assertEquals(List.of("EMP002"), empids(index.search("ravi", null, 0, 10)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testDirectoryGenerationsAreRemoved() throws Exception {
+        index.close();
+        index = new EmployeeSearchIndex(tempDir);
+        index.replaceAll(List.of(employee(1, "EMP001", "John", 10))::forEach);
+        index.replaceAll(List.of(employee(2, "EMP002", "Ravi", 20))::forEach);
+
+        assertEquals(List.of("EMP002"), empids(index.search("ravi", null, 0, 10)));
+        try (var generations = Files.list(tempDir)) {
+            assertEquals(1, generations.count());
+        }
+    }
+}
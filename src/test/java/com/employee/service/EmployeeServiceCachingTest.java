@@ -0,0 +1,113 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.employee.config.CacheConfig;
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.EmployeeShadowRepo;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(classes = { CacheConfig.class, EmployeeServiceImpl.class })
+@ImportAutoConfiguration({ CacheAutoConfiguration.class, JacksonAutoConfiguration.class })
+@SuppressWarnings("null")
+class EmployeeServiceCachingTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    @MockBean
+    private EmployeeShadowRepo employeeShadowRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private IdempotencyKeyStore idempotencyKeyStore;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    private Employee testEmployee;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMPID).clear();
+        testEmployee = new Employee();
+        testEmployee.setEmpid("EMP001");
+        testEmployee.setFname("John");
+        when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
+    }
+
+    @Test
+    void testGetEmployeeByEmpId_SecondReadIsCached() {
+        employeeService.getEmployeeByEmpId("EMP001");
+        Employee result = employeeService.getEmployeeByEmpId("EMP001");
+
+        assertEquals("EMP001", result.getEmpid());
+        verify(employeeRepository, times(1)).findByEmpid("EMP001");
+    }
+
+    @Test
+    void testGetEmployeeByEmpId_MissIsNotCached() {
+        employeeService.getEmployeeByEmpId("EMP999");
+        employeeService.getEmployeeByEmpId("EMP999");
+
+        verify(employeeRepository, times(2)).findByEmpid("EMP999");
+    }
+
+    @Test
+    void testUpdateEmployeeDetails_EvictsEntry() {
+        employeeService.getEmployeeByEmpId("EMP001");
+        employeeService.updateEmployeeDetails("EMP001", testEmployee);
+        employeeService.getEmployeeByEmpId("EMP001");
+
+        // one read for each cached lookup plus one inside the update
+        verify(employeeRepository, times(3)).findByEmpid("EMP001");
+    }
+
+    @Test
+    void testPatchEmployee_EvictsEntry() {
+        employeeService.getEmployeeByEmpId("EMP001");
+        employeeService.patchEmployee("EMP001", Map.of("fname", "Johnny"), null);
+
+        assertNull(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMPID).get("EMP001"));
+    }
+
+    @Test
+    void testAddEmployee_EvictsEntry() {
+        employeeService.getEmployeeByEmpId("EMP001");
+        employeeService.addEmployee(testEmployee);
+
+        assertNull(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMPID).get("EMP001"));
+    }
+
+    @Test
+    void testDeleteEmployeeByFname_EvictsAllEntries() {
+        employeeService.getEmployeeByEmpId("EMP001");
+        employeeService.deleteEmployeeByFname("John");
+
+        assertNull(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMPID).get("EMP001"));
+    }
+}
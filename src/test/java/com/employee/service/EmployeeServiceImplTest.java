@@ -2,23 +2,50 @@ package com.employee.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.employee.entity.Employee;
+import com.employee.entity.EmployeeArchiveCriteria;
+import com.employee.entity.EmployeeFilter;
+import com.employee.entity.EmployeeIdName;
+import com.employee.entity.EmployeeKey;
+import com.employee.entity.EmployeeRequestKey;
+import com.employee.exception.EmployeeNotFoundException;
+import com.employee.exception.IdempotencyConflictException;
 import com.employee.entity.EmployeeShadow;
 import com.employee.repository.EmployeeRepository;
 import com.employee.repository.EmployeeShadowRepo;
+import com.employee.response.EmployeePage;
 import com.employee.response.StandardResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("null")
@@ -30,6 +57,22 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeShadowRepo employeeShadowRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IdempotencyKeyStore idempotencyKeyStore;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    // Unstubbed: TransactionTemplate runs its callback against a null transaction status
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -53,6 +96,125 @@ class EmployeeServiceImplTest {
         assertEquals("success", response.getStatus());
         assertEquals("Employee details added successfully", response.getMessage());
         verify(employeeRepository, times(1)).save(testEmployee);
+        verify(eventPublisher).publishEvent(argThat((EmployeeChangedEvent event) ->
+                event.type() == EmployeeChangedEvent.Type.CREATED && event.employees().equals(List.of(testEmployee))));
+    }
+
+    private static EmployeeRequestKey requestKey(String clientReqid, EmployeeRequestKey.Operation operation, String empid) {
+        return new EmployeeRequestKey(clientReqid, operation, empid, Instant.now());
+    }
+
+    @Test
+    void testAddEmployee_RecordsKeyWithTheInsert() {
+        testEmployee.setClient_reqid("req-1");
+
+        employeeService.addEmployee(testEmployee);
+
+        verify(employeeRepository).save(testEmployee);
+        verify(idempotencyKeyStore).record("req-1", EmployeeRequestKey.Operation.CREATE, "EMP001");
+    }
+
+    @Test
+    void testAddEmployee_ReplayFromRecordedKeySkipsWrite() {
+        testEmployee.setClient_reqid("req-1");
+        when(idempotencyKeyStore.find("req-1")).thenReturn(requestKey("req-1", EmployeeRequestKey.Operation.CREATE, "EMP001"));
+
+        StandardResponse response = employeeService.addEmployee(testEmployee);
+
+        assertEquals("success", response.getStatus());
+        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testAddEmployee_ConcurrentReplayCaughtByKeyTable() {
+        testEmployee.setClient_reqid("req-1");
+        when(idempotencyKeyStore.find("req-1")).thenReturn(null,
+                requestKey("req-1", EmployeeRequestKey.Operation.CREATE, "EMP001"));
+        when(employeeRepository.save(testEmployee)).thenThrow(new DataIntegrityViolationException("employee_request_keys_pkey"));
+
+        StandardResponse response = employeeService.addEmployee(testEmployee);
+
+        assertEquals("success", response.getStatus());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testAddEmployee_ReplayOfUnrecordedRowCaughtByUniqueIndex() {
+        testEmployee.setClient_reqid("req-1");
+        when(employeeRepository.save(testEmployee)).thenThrow(new DataIntegrityViolationException("ux_employees_client_reqid"));
+        when(employeeRepository.findEmpidByClientReqid("req-1")).thenReturn("EMP001");
+
+        StandardResponse response = employeeService.addEmployee(testEmployee);
+
+        assertEquals("success", response.getStatus());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testAddEmployee_KeyOfAnotherEmployeeConflicts() {
+        testEmployee.setClient_reqid("req-1");
+        when(idempotencyKeyStore.find("req-1")).thenReturn(requestKey("req-1", EmployeeRequestKey.Operation.CREATE, "EMP999"));
+
+        assertThrows(IdempotencyConflictException.class, () -> employeeService.addEmployee(testEmployee));
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    void testAddEmployee_OtherIntegrityViolationIsRethrown() {
+        testEmployee.setClient_reqid("req-1");
+        when(employeeRepository.save(testEmployee)).thenThrow(new DataIntegrityViolationException("other"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> employeeService.addEmployee(testEmployee));
+    }
+
+    @Test
+    void testUpdateEmployeeDetails_ReplaySkipsWrite() {
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setEmpid("EMP001");
+        updatedEmployee.setFname("Jane");
+        updatedEmployee.setClient_reqid("req-2");
+        when(idempotencyKeyStore.find("req-2")).thenReturn(requestKey("req-2", EmployeeRequestKey.Operation.UPDATE, "EMP001"));
+
+        employeeService.updateEmployeeDetails("EMP001", updatedEmployee);
+
+        verify(employeeRepository, never()).findByEmpid(anyString());
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+    }
+
+    @Test
+    void testUpdateEmployeeDetails_RecordsNewKeyAndKeepsCreateKeyOnRow() {
+        testEmployee.setClient_reqid("req-1");
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setEmpid("EMP001");
+        updatedEmployee.setFname("Jane");
+        updatedEmployee.setClient_reqid("req-3");
+        when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
+
+        employeeService.updateEmployeeDetails("EMP001", updatedEmployee);
+
+        assertEquals("Jane", testEmployee.getFname());
+        assertEquals("req-1", testEmployee.getClient_reqid());
+        verify(idempotencyKeyStore).record("req-3", EmployeeRequestKey.Operation.UPDATE, "EMP001");
+        verify(employeeRepository).saveAndFlush(testEmployee);
+    }
+
+    @Test
+    void testUpdateEmployeeDetails_BodyReadBackFromGetIsApplied() {
+        // GET returns the create key; editing that body and sending it back is a new update, not a replay
+        testEmployee.setClient_reqid("req-1");
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setEmpid("EMP001");
+        updatedEmployee.setFname("Jane");
+        updatedEmployee.setClient_reqid("req-1");
+        when(idempotencyKeyStore.find("req-1")).thenReturn(requestKey("req-1", EmployeeRequestKey.Operation.CREATE, "EMP001"));
+        when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
+
+        employeeService.updateEmployeeDetails("EMP001", updatedEmployee);
+
+        assertEquals("Jane", testEmployee.getFname());
+        verify(employeeRepository).saveAndFlush(testEmployee);
+        verify(idempotencyKeyStore, never()).record(anyString(), any(), anyString());
     }
 
     @Test
@@ -93,38 +255,103 @@ class EmployeeServiceImplTest {
     }
 
     @Test
-    void testGetEmployeesByFname_Found() {
-        List<Employee> employees = new ArrayList<>();
-        testEmployee.setFname("John");
-        employees.add(testEmployee);
-        
-        when(employeeRepository.findAll()).thenReturn(employees);
+    @SuppressWarnings("unchecked")
+    void testGetEmployeeIdAndFnameAsResponse_UsesProjection() {
+        when(employeeRepository.findAllIdNames()).thenReturn(List.of(new EmployeeIdName("EMP001", "John")));
 
-        List<Employee> result = employeeService.getEmployeesByFname("John");
+        ResponseEntity<?> response = employeeService.getEmployeeIdAndFnameAsResponse();
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("John", result.get(0).getFname());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Map<String, Object> body = (Map<String, Object>) response.getBody();
+        assertEquals(List.of(new EmployeeIdName("EMP001", "John")), body.get("data"));
+        verify(employeeRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetEmployeeIdName_EmptyThrows() {
+        when(employeeRepository.findAllIdNames()).thenReturn(new ArrayList<>());
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeIdName());
     }
 
     @Test
-    void testGetEmployeesByFname_CaseInsensitive() {
+    void testGetEmployeePage_FullPageHasNextToken() {
+        testEmployee.setId(7L);
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1))).thenReturn(List.of(testEmployee));
+
+        EmployeePage page = employeeService.getEmployeePage(null, 1);
+
+        assertEquals(1, page.getSize());
+        assertNotNull(page.getNextToken());
+        assertEquals(7L, ContinuationToken.decode(page.getNextToken()));
+    }
+
+    @Test
+    void testGetEmployeePage_LastPageHasNoToken() {
+        String token = ContinuationToken.encode(7L);
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(7L, Limit.of(10))).thenReturn(new ArrayList<>());
+
+        EmployeePage page = employeeService.getEmployeePage(token, 10);
+
+        assertEquals(0, page.getSize());
+        assertNull(page.getNextToken());
+    }
+
+    @Test
+    void testGetEmployeePage_InvalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeePage("not-a-token", 10));
+    }
+
+    @Test
+    void testFilterEmployees_FullPageTokenCarriesSortValue() {
+        testEmployee.setId(7L);
+        testEmployee.setSalary(65000);
+        when(employeeRepository.findBy(ArgumentMatchers.<Specification<Employee>>any(), any())).thenReturn(List.of(testEmployee));
+
+        EmployeePage page = employeeService.filterEmployees(new EmployeeFilter(), "-salary", null, 1);
+
+        assertEquals(new ContinuationToken.Position(7L, "65000"), ContinuationToken.decode(page.getNextToken(), "-salary"));
+    }
+
+    @Test
+    void testFilterEmployees_RejectsTokenFromAnotherSort() {
+        String token = ContinuationToken.encode("salary", new ContinuationToken.Position(7L, "65000"));
+
+        assertThrows(IllegalArgumentException.class, () -> employeeService.filterEmployees(new EmployeeFilter(), "fname", token, 10));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.filterEmployees(new EmployeeFilter(), "doj", null, 10));
+        verify(employeeRepository, never()).findBy(ArgumentMatchers.<Specification<Employee>>any(), any());
+    }
+
+    @Test
+    void testForEachEmployee_DetachesRows() {
+        when(employeeRepository.streamAllOrderById()).thenReturn(Stream.of(testEmployee));
+        List<Employee> seen = new ArrayList<>();
+
+        employeeService.forEachEmployee(seen::add);
+
+        assertEquals(1, seen.size());
+        verify(entityManager, times(1)).detach(testEmployee);
+    }
+
+    @Test
+    void testGetEmployeesByFname_Found() {
         List<Employee> employees = new ArrayList<>();
         testEmployee.setFname("John");
         employees.add(testEmployee);
         
-        when(employeeRepository.findAll()).thenReturn(employees);
+        when(employeeRepository.findByFnameIgnoreCase("John")).thenReturn(employees);
 
-        List<Employee> result = employeeService.getEmployeesByFname("JOHN");
+        List<Employee> result = employeeService.getEmployeesByFname("John");
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("John", result.get(0).getFname());
+        verify(employeeRepository, never()).findAll();
     }
 
     @Test
     void testGetEmployeesByFname_NotFound() {
-        when(employeeRepository.findAll()).thenReturn(new ArrayList<>());
+        when(employeeRepository.findByFnameIgnoreCase("Unknown")).thenReturn(new ArrayList<>());
 
         List<Employee> result = employeeService.getEmployeesByFname("Unknown");
 
@@ -132,28 +359,97 @@ class EmployeeServiceImplTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testSearchEmployeesByFname_PrefixEscapesWildcards() {
+        when(employeeRepository.findByFnameStartingWithIgnoreCase("J\\_", PageRequest.of(1, 20)))
+                .thenReturn(List.of(testEmployee));
+
+        List<Employee> result = employeeService.searchEmployeesByFname("J_", true, 1, 20);
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void testSearchEmployeesByFname_ExactPaged() {
+        when(employeeRepository.findByFnameIgnoreCase("John", PageRequest.of(0, 5))).thenReturn(List.of(testEmployee));
+
+        List<Employee> result = employeeService.searchEmployeesByFname("John", false, 0, 5);
+
+        assertEquals(1, result.size());
+        verify(employeeRepository, never()).findAll();
+    }
+
     @Test
     void testDeleteEmployeeByFname_Success() {
-        when(employeeRepository.findByfname("John")).thenReturn(testEmployee);
-        when(employeeShadowRepository.save(any(EmployeeShadow.class))).thenReturn(new EmployeeShadow());
-        doNothing().when(employeeRepository).delete(testEmployee);
+        List<EmployeeKey> keys = List.of(new EmployeeKey(1L, "EMP001"), new EmployeeKey(2L, "EMP002"));
+        when(employeeRepository.findKeysByFname("John")).thenReturn(keys);
+        when(employeeShadowRepository.archiveByIds(List.of(1L, 2L))).thenReturn(2);
 
         employeeService.deleteEmployeeByFname("John");
 
-        verify(employeeRepository, times(1)).findByfname("John");
-        verify(employeeShadowRepository, times(1)).save(any(EmployeeShadow.class));
-        verify(employeeRepository, times(1)).delete(testEmployee);
+        // The ids read up front drive both the copy and the delete
+        verify(employeeShadowRepository, times(1)).archiveByIds(List.of(1L, 2L));
+        verify(employeeRepository, times(1)).deleteAllByIds(List.of(1L, 2L));
+        verify(employeeShadowRepository, never()).save(any(EmployeeShadow.class));
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.deleted(keys));
     }
 
     @Test
     void testDeleteEmployeeByFname_EmployeeNotFound() {
-        when(employeeRepository.findByfname("Unknown")).thenReturn(null);
+        when(employeeRepository.findKeysByFname("Unknown")).thenReturn(List.of());
 
         employeeService.deleteEmployeeByFname("Unknown");
 
-        verify(employeeRepository, times(1)).findByfname("Unknown");
+        verify(employeeShadowRepository, never()).archiveByIds(anyList());
+        verify(employeeRepository, never()).deleteAllByIds(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
         verify(employeeShadowRepository, never()).save(any(EmployeeShadow.class));
-        verify(employeeRepository, never()).delete(any(Employee.class));
+    }
+
+    @Test
+    void testArchiveEmployees_ByDeptid() {
+        EmployeeArchiveCriteria criteria = new EmployeeArchiveCriteria();
+        criteria.setDeptid(10);
+        when(employeeRepository.findKeysByDeptid(10)).thenReturn(List.of(new EmployeeKey(7L, "EMP007")));
+        when(employeeShadowRepository.archiveByIds(List.of(7L))).thenReturn(1);
+
+        int archived = employeeService.archiveEmployees(criteria);
+
+        assertEquals(1, archived);
+        verify(employeeRepository, times(1)).deleteAllByIds(List.of(7L));
+    }
+
+    @Test
+    void testArchiveEmployees_ByEmpidsInSlices() {
+        List<String> empids = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            empids.add("EMP" + i);
+        }
+        EmployeeArchiveCriteria criteria = new EmployeeArchiveCriteria();
+        criteria.setEmpids(empids);
+        when(employeeRepository.findKeysByEmpids(anyList())).thenAnswer(invocation -> {
+            List<String> slice = invocation.getArgument(0);
+            return slice.stream().map(empid -> new EmployeeKey(Long.parseLong(empid.substring(3)), empid)).toList();
+        });
+        when(employeeShadowRepository.archiveByIds(anyList())).thenReturn(1000, 1000, 500);
+
+        int archived = employeeService.archiveEmployees(criteria);
+
+        assertEquals(2500, archived);
+        verify(employeeRepository, times(3)).findKeysByEmpids(anyList());
+        verify(employeeShadowRepository, times(3)).archiveByIds(anyList());
+        verify(employeeRepository, times(3)).deleteAllByIds(anyList());
+    }
+
+    @Test
+    void testArchiveEmployees_RequiresExactlyOneCriterion() {
+        EmployeeArchiveCriteria criteria = new EmployeeArchiveCriteria();
+        criteria.setFname("John");
+        criteria.setDeptid(10);
+
+        assertThrows(IllegalArgumentException.class, () -> employeeService.archiveEmployees(criteria));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.archiveEmployees(new EmployeeArchiveCriteria()));
+        verifyNoInteractions(employeeShadowRepository);
     }
 
     @Test
@@ -164,14 +460,88 @@ class EmployeeServiceImplTest {
         updatedEmployee.setSalary(60000);
 
         when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(testEmployee);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(testEmployee);
 
         employeeService.updateEmployeeDetails("EMP001", updatedEmployee);
 
         assertEquals("Jane", testEmployee.getFname());
         assertEquals(60000, testEmployee.getSalary());
         verify(employeeRepository, times(1)).findByEmpid("EMP001");
-        verify(employeeRepository, times(1)).save(testEmployee);
+        verify(employeeRepository, times(1)).saveAndFlush(testEmployee);
+    }
+
+    @Test
+    void testUpdateEmployeeDetails_MatchingVersion() {
+        testEmployee.setVersion(3L);
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setEmpid("EMP001");
+        updatedEmployee.setFname("Jane");
+        when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
+
+        Employee result = employeeService.updateEmployeeDetails("EMP001", updatedEmployee, 3L);
+
+        assertSame(testEmployee, result);
+        assertEquals("Jane", testEmployee.getFname());
+        verify(employeeRepository).saveAndFlush(testEmployee);
+    }
+
+    @Test
+    void testUpdateEmployeeDetails_StaleVersion() {
+        testEmployee.setVersion(4L);
+        Employee updatedEmployee = new Employee();
+        updatedEmployee.setEmpid("EMP001");
+        updatedEmployee.setFname("Jane");
+        when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> employeeService.updateEmployeeDetails("EMP001", updatedEmployee, 3L));
+
+        assertEquals("John", testEmployee.getFname());
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPatchEmployee_AppliesOnlySuppliedFields() {
+        testEmployee.setDeptid(10);
+        testEmployee.setVersion(1L);
+        when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
+
+        Employee result = employeeService.patchEmployee("EMP001", Map.of("salary", 65000, "dob", "1990-05-17"), 1L);
+
+        assertSame(testEmployee, result);
+        assertEquals(65000, testEmployee.getSalary());
+        assertEquals(java.sql.Date.valueOf("1990-05-17"), testEmployee.getDob());
+        assertEquals("John", testEmployee.getFname());
+        assertEquals(10, testEmployee.getDeptid());
+        verify(employeeRepository).saveAndFlush(testEmployee);
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void testPatchEmployee_RejectsServerControlledFields() {
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.patchEmployee("EMP001", Map.of("empid", "EMP002"), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.patchEmployee("EMP001", Map.of("version", 7), null));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void testPatchEmployee_InvalidValue() {
+        when(employeeRepository.findByEmpid("EMP001")).thenReturn(testEmployee);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.patchEmployee("EMP001", Map.of("salary", "lots"), null));
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+    }
+
+    @Test
+    void testPatchEmployee_NotFound() {
+        when(employeeRepository.findByEmpid("EMP999")).thenReturn(null);
+
+        assertThrows(EmployeeNotFoundException.class,
+                () -> employeeService.patchEmployee("EMP999", Map.of("salary", 1), null));
     }
 
     @Test
@@ -187,7 +557,7 @@ class EmployeeServiceImplTest {
 
         assertTrue(exception.getMessage().contains("Employee not found"));
         verify(employeeRepository, times(1)).findByEmpid("EMP999");
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
     }
 
     @Test
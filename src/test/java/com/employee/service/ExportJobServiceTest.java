@@ -0,0 +1,122 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.employee.entity.Employee;
+import com.employee.exception.TooManyExportsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExportJobServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExportJobService exportJobService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        exportJobService.shutdown();
+    }
+
+    private static Employee employee(long id, String fname, Integer deptid) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmpid("EMP" + id);
+        employee.setFname(fname);
+        employee.setDeptid(deptid);
+        return employee;
+    }
+
+    private static ExportJob awaitFinished(ExportJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        return job;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSubmit_WritesFilteredExportToDisk() throws Exception {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        // The filter is applied by the repository query; only matching rows come back
+        doAnswer(invocation -> {
+            Consumer<Employee> action = invocation.getArgument(2);
+            action.accept(employee(1, "John", 10));
+            action.accept(employee(3, "John", 20));
+            return null;
+        }).when(employeeService).forEachEmployee(eq("john"), isNull(), any(Consumer.class));
+        exportJobService = new ExportJobService(employeeService, tempDir.toString(), 1, 5, 2, Duration.ZERO, meterRegistry);
+
+        ExportJob job = awaitFinished(exportJobService.submit("yash", ExportFormat.EXCEL, "john", null));
+
+        assertEquals(ExportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getRowCount());
+        assertTrue(Files.size(job.getFile()) > 0);
+        assertEquals(2, meterRegistry.get("exports.rows").tag("format", "EXCEL").counter().count());
+        assertEquals(1, meterRegistry.get("exports.duration").tag("outcome", "COMPLETED").timer().count());
+        assertSame(job, exportJobService.getJob(job.getId(), "yash"));
+        assertNull(exportJobService.getJob(job.getId(), "someone-else"));
+
+        exportJobService.removeExpiredJobs();
+
+        assertFalse(Files.exists(job.getFile()));
+        assertNull(exportJobService.getJob(job.getId(), "yash"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSubmit_EnforcesPerUserLimit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        EmployeeService employeeService = mock(EmployeeService.class);
+        doAnswer(invocation -> {
+            release.await(20, TimeUnit.SECONDS);
+            return null;
+        }).when(employeeService).forEachEmployee(isNull(), isNull(), any(Consumer.class));
+        exportJobService = new ExportJobService(employeeService, tempDir.toString(), 1, 5, 1, Duration.ofHours(1), meterRegistry);
+
+        ExportJob first = exportJobService.submit("yash", ExportFormat.PDF, null, null);
+
+        assertThrows(TooManyExportsException.class, () -> exportJobService.submit("yash", ExportFormat.PDF, null, null));
+        ExportJob other = exportJobService.submit("hr-sync", ExportFormat.PDF, null, null);
+
+        release.countDown();
+        assertEquals(ExportJob.Status.COMPLETED, awaitFinished(first).getStatus());
+        assertEquals(ExportJob.Status.COMPLETED, awaitFinished(other).getStatus());
+        assertNotNull(exportJobService.submit("yash", ExportFormat.PDF, null, null));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSubmit_FailedExportIsReported() throws Exception {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        doThrow(new IllegalStateException("database down")).when(employeeService).forEachEmployee(isNull(), isNull(), any(Consumer.class));
+        exportJobService = new ExportJobService(employeeService, tempDir.toString(), 1, 5, 2, Duration.ofHours(1), meterRegistry);
+
+        ExportJob job = awaitFinished(exportJobService.submit("yash", ExportFormat.EXCEL, null, null));
+
+        assertEquals(ExportJob.Status.FAILED, job.getStatus());
+        assertEquals("database down", job.getError());
+        assertEquals(1, meterRegistry.get("exports.duration").tag("outcome", "FAILED").timer().count());
+        assertNull(meterRegistry.find("exports.rows").counter());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.employee.entity.EmployeeRequestKey;
+import com.employee.repository.EmployeeRequestKeyRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyStoreTest {
+
+    @Mock
+    private EmployeeRequestKeyRepository requestKeyRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private IdempotencyKeyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyKeyStore(requestKeyRepository, entityManager, 100, Duration.ofHours(1), Duration.ofDays(30));
+    }
+
+    @Test
+    void testFindReadsTheTableOnceThenServesFromMemory() {
+        EmployeeRequestKey key = new EmployeeRequestKey("req-1", EmployeeRequestKey.Operation.CREATE, "EMP001", Instant.now());
+        when(requestKeyRepository.findById("req-1")).thenReturn(Optional.of(key));
+
+        assertSame(key, store.find("req-1"));
+        assertSame(key, store.find("req-1"));
+        verify(requestKeyRepository, times(1)).findById("req-1");
+    }
+
+    @Test
+    void testFindMissingKey() {
+        when(requestKeyRepository.findById("req-2")).thenReturn(Optional.empty());
+
+        assertNull(store.find("req-2"));
+    }
+
+    @Test
+    void testRecordedKeyIsRememberedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            store.record("req-1", EmployeeRequestKey.Operation.UPDATE, "EMP001");
+
+            verify(entityManager).persist(argThat((EmployeeRequestKey key) -> key.getClientReqid().equals("req-1")
+                    && key.getOperation() == EmployeeRequestKey.Operation.UPDATE && key.getEmpid().equals("EMP001")));
+            when(requestKeyRepository.findById("req-1")).thenReturn(Optional.empty());
+            assertNull(store.find("req-1"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals("EMP001", store.find("req-1").getEmpid());
+            verify(requestKeyRepository, times(1)).findById("req-1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
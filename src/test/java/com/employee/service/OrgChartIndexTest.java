@@ -0,0 +1,128 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.employee.entity.ReportingLine;
+import com.employee.response.OrgChartNode;
+import com.employee.response.SpanOfControl;
+
+class OrgChartIndexTest {
+
+    private OrgChartIndex index;
+
+    // CEO(1) -> VP(2), VP2(3); VP(2) -> DEV(4), DEV2(5); DEV(4) -> INT(6)
+    @BeforeEach
+    void setUp() {
+        index = new OrgChartIndex();
+        index.replaceAll(List.of(
+                new ReportingLine(1L, "CEO", null),
+                new ReportingLine(2L, "VP", 1),
+                new ReportingLine(3L, "VP2", 1),
+                new ReportingLine(4L, "DEV", 2),
+                new ReportingLine(5L, "DEV2", 2),
+                new ReportingLine(6L, "INT", 4)));
+    }
+
+    @Test
+    void testReports_BreadthFirstWithDepth() {
+        List<OrgChartNode> reports = index.reports("CEO", Integer.MAX_VALUE);
+
+        assertEquals(5, reports.size());
+        assertEquals(List.of(1, 1, 2, 2, 3), reports.stream().map(OrgChartNode::depth).toList());
+        assertEquals(new OrgChartNode("INT", 3), reports.get(4));
+    }
+
+    @Test
+    void testReports_LimitedDepth() {
+        assertEquals(List.of("DEV", "DEV2"), index.reports("VP", 1).stream().map(OrgChartNode::empid).toList());
+        assertTrue(index.reports("INT", 5).isEmpty());
+        assertNull(index.reports("NOBODY", 5));
+    }
+
+    @Test
+    void testManagementChainAndDepth() {
+        assertEquals(List.of("DEV", "VP", "CEO"), index.managementChain("INT"));
+        assertEquals(3, index.depth("INT"));
+        assertEquals(0, index.depth("CEO"));
+        assertEquals(-1, index.depth("NOBODY"));
+    }
+
+    @Test
+    void testSpanOfControl() {
+        assertEquals(new SpanOfControl(2, 5), index.spanOfControl("CEO"));
+        assertEquals(new SpanOfControl(0, 0), index.spanOfControl("INT"));
+        assertNull(index.spanOfControl("NOBODY"));
+    }
+
+    @Test
+    void testPut_MovesSubtreeToNewManager() {
+        index.put(4L, "DEV", 3);
+
+        assertEquals(List.of("VP2", "CEO"), index.managementChain("DEV"));
+        assertEquals(new SpanOfControl(1, 1), index.spanOfControl("VP"));
+        assertEquals(new SpanOfControl(1, 2), index.spanOfControl("VP2"));
+    }
+
+    @Test
+    void testRemove_ReportsOfRemovedManagerStopTheirChainThere() {
+        index.remove(2L);
+
+        assertFalse(index.contains("VP"));
+        assertEquals(5, index.size());
+        assertEquals(new SpanOfControl(1, 1), index.spanOfControl("CEO"));
+        assertEquals(List.of(), index.managementChain("DEV"));
+        assertEquals(List.of("DEV"), index.managementChain("INT"));
+    }
+
+    @Test
+    void testCycle_DoesNotLoopForever() {
+        index.put(1L, "CEO", 6);
+
+        assertEquals(5, index.reports("CEO", Integer.MAX_VALUE).size());
+        assertEquals(List.of("DEV", "VP", "CEO"), index.managementChain("INT"));
+        assertEquals(3, index.depth("INT"));
+    }
+
+    @Test
+    void testReplaceAll_ReplaysUpdatesRecordedDuringLoad() {
+        index.startRecording();
+        index.put(7L, "NEW", 1);
+        // Rows loaded before EMP 7 was committed
+        index.replaceAll(List.of(new ReportingLine(1L, "CEO", null)));
+
+        assertEquals(List.of("CEO"), index.managementChain("NEW"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testPut_UnknownOrHugeManagerIdsCostOneSlotAndEndTheChain() {
+        index.put(7L, "NEW", Integer.MAX_VALUE);
+        index.put(Long.MAX_VALUE, "BIG", 1_000_000_000);
+
+        assertEquals(List.of(), index.managementChain("NEW"));
+        assertEquals(0, index.depth("BIG"));
+        assertEquals(8, index.size());
+
+        // The manager turns up later and the report hangs under it
+        index.put(1_000_000_000L, "LATE", 1);
+        assertEquals(List.of("LATE", "CEO"), index.managementChain("BIG"));
+    }
+
+    @Test
+    void testPut_ReassigningToUnknownManagersDoesNotGrowTheIndex() {
+        for (int manager = 1_000; manager < 100_000; manager++) {
+            index.put(6L, "INT", manager);
+        }
+        index.put(6L, "INT", 4);
+
+        assertEquals(List.of("DEV", "VP", "CEO"), index.managementChain("INT"));
+        assertEquals(6, index.size());
+        // Each dangling manager's slot is handed back once INT moves on
+        assertEquals(7, index.slotsUsed());
+    }
+}
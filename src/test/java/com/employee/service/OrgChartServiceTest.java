@@ -0,0 +1,81 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.employee.entity.Employee;
+import com.employee.entity.EmployeeKey;
+import com.employee.entity.ReportingLine;
+import com.employee.exception.EmployeeNotFoundException;
+import com.employee.repository.EmployeeRepository;
+import com.employee.response.OrgChartNode;
+
+@ExtendWith(MockitoExtension.class)
+class OrgChartServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private OrgChartService orgChartService;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.findAllReportingLines()).thenReturn(List.of(
+                new ReportingLine(1L, "CEO", null),
+                new ReportingLine(2L, "VP", 1)));
+        orgChartService = new OrgChartService(employeeRepository, 10);
+        orgChartService.afterSingletonsInstantiated();
+    }
+
+    private static Employee employee(long id, String empid, Integer reportsto) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmpid(empid);
+        employee.setReportsto(reportsto);
+        return employee;
+    }
+
+    @Test
+    void testCreatedEvent_AddsToIndex() {
+        orgChartService.onEmployeeChanged(EmployeeChangedEvent.saved(EmployeeChangedEvent.Type.CREATED,
+                List.of(employee(3L, "DEV", 2))));
+
+        assertEquals(List.of(new OrgChartNode("VP", 1), new OrgChartNode("DEV", 2)), orgChartService.getReports("CEO", null));
+        assertEquals(2, orgChartService.getDepth("DEV"));
+    }
+
+    @Test
+    void testDeletedEvent_RemovesFromIndex() {
+        orgChartService.onEmployeeChanged(EmployeeChangedEvent.deleted(List.of(new EmployeeKey(2L, "VP"))));
+
+        assertEquals(0, orgChartService.getSpanOfControl("CEO").total());
+        assertThrows(EmployeeNotFoundException.class, () -> orgChartService.getManagementChain("VP"));
+    }
+
+    @Test
+    void testUnknownEmployee_NotFound() {
+        assertThrows(EmployeeNotFoundException.class, () -> orgChartService.getReports("NOBODY", null));
+        assertThrows(EmployeeNotFoundException.class, () -> orgChartService.getDepth("NOBODY"));
+        assertThrows(EmployeeNotFoundException.class, () -> orgChartService.getReportsWithDetails("NOBODY", null));
+        verify(employeeRepository, never()).findReportsByEmpid(anyString(), anyInt());
+    }
+
+    @Test
+    void testDetails_DepthCappedByMaxDepth() {
+        orgChartService.getReportsWithDetails("CEO", 500);
+        orgChartService.getReportsWithDetails("CEO", 2);
+        orgChartService.getManagementChainWithDetails("VP");
+
+        verify(employeeRepository).findReportsByEmpid("CEO", 10);
+        verify(employeeRepository).findReportsByEmpid("CEO", 2);
+        verify(employeeRepository).findManagementChainByEmpid("VP", 10);
+    }
+}
@@ -0,0 +1,52 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.employee.entity.Employee;
+import com.lowagie.text.pdf.PdfReader;
+
+class PdfGeneratorTest {
+
+    private static Employee employee(long id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmpid("EMP" + id);
+        employee.setFname("Name" + id);
+        return employee;
+    }
+
+    @Test
+    void testGenerate_StreamsRowsAcrossPages() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmployeeSource source = action -> {
+            for (long i = 1; i <= 1000; i++) {
+                action.accept(employee(i));
+            }
+        };
+
+        int rows = new PdfGenerator().generate(source, out);
+
+        assertEquals(1000, rows);
+        PdfReader reader = new PdfReader(out.toByteArray());
+        try {
+            assertTrue(reader.getNumberOfPages() > 1);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void testGenerate_EmptyList() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        int rows = new PdfGenerator().generate(List.<Employee>of()::forEach, out);
+
+        assertEquals(0, rows);
+        assertTrue(out.size() > 0);
+    }
+}